@@ -1,72 +1,188 @@
 package com.aston.group.stationdefender;
 
+import com.aston.group.stationdefender.actors.helpers.ParticleEffectHelper;
 import com.aston.group.stationdefender.callbacks.GameCallback;
+import com.aston.group.stationdefender.callbacks.LoadingCallback;
 import com.aston.group.stationdefender.callbacks.MenuCallback;
+import com.aston.group.stationdefender.callbacks.SaveCallback;
 import com.aston.group.stationdefender.callbacks.TwoTextCallback;
 import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.config.Definitions;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
 import com.aston.group.stationdefender.screens.GameScreen;
 import com.aston.group.stationdefender.screens.IntroScreen;
+import com.aston.group.stationdefender.screens.LoadingScreen;
 import com.aston.group.stationdefender.screens.MenuScreen;
 import com.aston.group.stationdefender.screens.TwoTextScreen;
+import com.aston.group.stationdefender.utils.AssetLoader;
 import com.aston.group.stationdefender.utils.FileUtils;
+import com.aston.group.stationdefender.utils.FontManager;
 import com.aston.group.stationdefender.utils.SoundManager;
+import com.aston.group.stationdefender.utils.TextureManager;
 import com.aston.group.stationdefender.utils.resources.StackableInventory;
+import com.aston.group.stationdefender.utils.save.AutosaveService;
+import com.aston.group.stationdefender.utils.save.SaveReader;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /**
  * The Main game class.
  *
  * @author Jonathon Fitch
  */
-public class Main extends Game implements GameCallback, TwoTextCallback, MenuCallback {
+public class Main extends Game implements GameCallback, TwoTextCallback, MenuCallback, LoadingCallback, SaveCallback {
+    private LoadingScreen loadingScreen;
     private IntroScreen introScreen;
     private TwoTextScreen backgroundScreen;
     private TwoTextScreen instructionScreen;
+    private TwoTextScreen postLevelScreen;
     private MenuScreen menuScreen;
     private GameScreen gameScreen;
     private int levelNumber = 1;
     private int totalScore;
+    private long startTime;
+    private boolean firstFrameLogged;
 
     @Override
     public void create() {
-        backgroundScreen = new TwoTextScreen(this, false);
-        instructionScreen = new TwoTextScreen(this, false);
-        introScreen = new IntroScreen(this);
-        menuScreen = new MenuScreen(this);
-        initGame();
-        backgroundScreen.setTitle(Constants.MENU_ITEMS[0]);
-        backgroundScreen.setBody(Constants.BACKGROUND);
-        instructionScreen.setTitle(Constants.MENU_ITEMS[1]);
-        instructionScreen.setBody(Constants.INSTRUCTIONS);
-        setScreen(introScreen);
+        startTime = TimeUtils.millis();
+        AutosaveService.setSaveCallback(this);
+        Definitions.load(Gdx.files.internal(Definitions.PATH));
+        if (Constants.PRELOAD_ASSETS) {
+            AssetLoader.queueAll();
+            loadingScreen = new LoadingScreen(this);
+            setScreen(loadingScreen);
+        } else {
+            onLoaded();
+        }
+    }
+
+    @Override
+    public void onLoaded() {
+        Gdx.app.log("Startup", String.format("%d assets loaded after %dms", AssetLoader.getLoadedAssets(), TimeUtils.timeSinceMillis(startTime)));
+        setScreen(getIntroScreen());
+        ParticleEffectHelper.load();
         SoundManager.playSound(SoundManager.BACKGROUND_MUSIC);
+        if (loadingScreen != null) {
+            loadingScreen.dispose();
+            loadingScreen = null;
+        }
+        Gdx.app.log("Startup", String.format("IntroScreen shown after %dms", TimeUtils.timeSinceMillis(startTime)));
     }
 
     /**
-     * Disposes of any existing GameScreen then create a new one
+     * Returns the IntroScreen, creating it the first time it is shown
+     *
+     * @return The IntroScreen
      */
-    private void initGame() {
-        if (gameScreen != null)
+    private IntroScreen getIntroScreen() {
+        if (introScreen == null)
+            introScreen = new IntroScreen(this);
+        return introScreen;
+    }
+
+    /**
+     * Returns the screen showing the background of the game, creating it the first time it is shown
+     *
+     * @return The background TwoTextScreen
+     */
+    private TwoTextScreen getBackgroundScreen() {
+        if (backgroundScreen == null) {
+            backgroundScreen = new TwoTextScreen(this, false);
+            backgroundScreen.setTitle(Constants.MENU_ITEMS[0]);
+            backgroundScreen.setBody(Constants.BACKGROUND);
+        }
+        return backgroundScreen;
+    }
+
+    /**
+     * Returns the screen showing the instructions of the game, creating it the first time it is shown
+     *
+     * @return The instructions TwoTextScreen
+     */
+    private TwoTextScreen getInstructionScreen() {
+        if (instructionScreen == null) {
+            instructionScreen = new TwoTextScreen(this, false);
+            instructionScreen.setTitle(Constants.MENU_ITEMS[1]);
+            instructionScreen.setBody(Constants.INSTRUCTIONS);
+        }
+        return instructionScreen;
+    }
+
+    /**
+     * Returns the screen shown at the end of every Level, creating it the first time a Level ends
+     *
+     * @return The post Level TwoTextScreen
+     */
+    private TwoTextScreen getPostLevelScreen() {
+        if (postLevelScreen == null)
+            postLevelScreen = new TwoTextScreen(this, false);
+        return postLevelScreen;
+    }
+
+    /**
+     * Returns the MenuScreen, creating it the first time the game is paused
+     *
+     * @return The MenuScreen
+     */
+    private MenuScreen getMenuScreen() {
+        if (menuScreen == null)
+            menuScreen = new MenuScreen(this);
+        return menuScreen;
+    }
+
+    /**
+     * Returns the GameScreen, creating it if there isn't a game being played.
+     * A Level that was saved when the game was paused by the system is resumed, otherwise the next Level is started.
+     *
+     * @return The GameScreen
+     */
+    private GameScreen getGameScreen() {
+        if (gameScreen == null) {
+            SaveReader snapshot = FileUtils.loadSnapshot();
+            if (snapshot != null) {
+                try {
+                    gameScreen = new GameScreen(this, snapshot);
+                    levelNumber = gameScreen.getLevelNumber();
+                } catch (GdxRuntimeException e) {
+                    Gdx.app.error("Main", "Failed to resume the last Level", e);
+                    FileUtils.deleteSnapshot();
+                }
+            }
+            if (gameScreen == null)
+                gameScreen = new GameScreen(this, levelNumber);
+        }
+        return gameScreen;
+    }
+
+    /**
+     * Dispose of the GameScreen once its game is over, so the next game starts from the Player's last saved Level
+     */
+    private void evictGameScreen() {
+        if (gameScreen != null) {
             gameScreen.dispose();
-        gameScreen = new GameScreen(this, levelNumber);
+            gameScreen = null;
+        }
     }
 
     @Override
     public void onWinLost(StackableInventory inventory, boolean won, int score, int money) {
+        FileUtils.deleteSnapshot();
         FileUtils.deleteLevelInfo();
-        TwoTextScreen postLevelScreen;
+        TwoTextScreen postLevelScreen = getPostLevelScreen();
         String title;
         if (won) {
             FileUtils.saveLevel(score, money, levelNumber, inventory);
             title = "Level Cleared";
-            postLevelScreen = new TwoTextScreen(this, true);
             levelNumber++;
         } else {
             title = "You Failed!";
-            postLevelScreen = new TwoTextScreen(this, false);
         }
         totalScore += score;
+        postLevelScreen.setContinueVisible(won);
         postLevelScreen.setTitle(title);
         postLevelScreen.setBody("Level Score: " + score + "\nMoney: £" + money + "\n\nTotal Score: " + totalScore);
         if (!won)
@@ -76,38 +192,94 @@ public class Main extends Game implements GameCallback, TwoTextCallback, MenuCal
 
     @Override
     public void onPause() {
-        setScreen(menuScreen);
+        setScreen(getMenuScreen());
     }
 
     @Override
     public void onBack() {
-        setScreen(introScreen);
+        evictGameScreen();
+        setScreen(getIntroScreen());
     }
 
     @Override
     public void onContinue() {
-        initGame();
-        setScreen(gameScreen);
+        //Continue is only shown once a Level is cleared, so the Player keeps their score and Items
+        if (gameScreen != null)
+            gameScreen.reset(levelNumber, true);
+        setScreen(getGameScreen());
     }
 
     @Override
     public void onDisplayBackground() {
-        setScreen(backgroundScreen);
+        setScreen(getBackgroundScreen());
     }
 
     @Override
     public void onDisplayInstructions() {
-        setScreen(instructionScreen);
+        setScreen(getInstructionScreen());
     }
 
     @Override
     public void onPlay(boolean refresh) {
-        if (refresh) initGame();
-        setScreen(gameScreen);
+        if (refresh)
+            evictGameScreen();
+        setScreen(getGameScreen());
     }
 
     @Override
     public void onExit() {
         Gdx.app.exit();
     }
+
+    @Override
+    public void render() {
+        super.render();
+        if (!firstFrameLogged && getScreen() == introScreen && introScreen != null) {
+            firstFrameLogged = true;
+            Gdx.app.log("Startup", String.format("First frame of the IntroScreen after %dms", TimeUtils.timeSinceMillis(startTime)));
+        }
+        SoundManager.update();
+        if (Constants.DEBUG)
+            Definitions.reloadIfModified();
+    }
+
+    @Override
+    public void pause() {
+        super.pause();
+        //The Level is saved even while the menu is shown over it
+        if (gameScreen != null && getScreen() != gameScreen)
+            gameScreen.pause();
+        //The process may be killed at any time once the game is paused, so the saves are finished straight away
+        AutosaveService.finish();
+    }
+
+    @Override
+    public void onSaved(String path, float latencyMillis) {
+        if (Constants.DEBUG)
+            Gdx.app.debug("Autosave", String.format("Saved %s in %.1fms (%d saves, %d coalesced, max %.1fms)", path, latencyMillis,
+                    AutosaveService.getSaveCount(), AutosaveService.getCoalescedCount(), AutosaveService.getMaxLatency()));
+    }
+
+    @Override
+    public void onSaveFailed(String path, RuntimeException exception) {
+        Gdx.app.error("Autosave", "Failed to save " + path, exception);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        evictGameScreen();
+        AutosaveService.dispose();
+        Screen[] screens = {introScreen, backgroundScreen, instructionScreen, postLevelScreen, menuScreen};
+        for (Screen screen : screens) {
+            if (screen != null)
+                screen.dispose();
+        }
+        SoundManager.dispose();
+        ParticleEffectHelper.dispose();
+        ItemFactory.dispose();
+        TextureManager.dispose();
+        FontManager.dispose();
+        AssetLoader.dispose();
+    }
 }
\ No newline at end of file
@@ -10,11 +10,19 @@ package com.aston.group.stationdefender.actors;
 public interface Actor {
 
     /**
-     * Render the Actor.
+     * Advance the Actor by a single simulation step.
      *
-     * @param delta - The time in seconds since the last render.
+     * @param delta - The length of the simulation step in seconds.
      */
-    void render(float delta);
+    void update(float delta);
+
+    /**
+     * Render the Actor, interpolated between the last two simulation steps.
+     * Must be called between the SpriteBatch's begin and end.
+     *
+     * @param alpha - How far between the last two simulation steps to draw, from 0 to 1.
+     */
+    void render(float alpha);
 
     /**
      * Returns the exist state of the Actor
@@ -1,7 +1,14 @@
 package com.aston.group.stationdefender.actors;
 
-import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.actors.helpers.UnitFactory;
+import com.aston.group.stationdefender.config.Definitions;
+import com.aston.group.stationdefender.config.UnitArchetype;
+import com.aston.group.stationdefender.engine.GameEngine;
 import com.aston.group.stationdefender.utils.TextureManager;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
  * Superclass for different Alien types.
@@ -10,17 +17,37 @@ import com.aston.group.stationdefender.utils.TextureManager;
  * @version 01/11/2016
  */
 public class Alien extends Unit {
-    private boolean overloaded;
+    private double distance;
 
     /**
      * Construct a new default Alien
      */
     public Alien() {
-        this("Alien", -120, Constants.DEFAULT_DAMAGE, 5, Constants.UNIT_HEALTH, 5.0, 12, 100, 38, TextureManager.ALIEN);
+        this(Definitions.getEnemy(UnitFactory.ALIEN));
     }
 
     /**
-     * Construct a new Alien with given name, speed, damage, rateOfFile, health, range, chance to hit, width and height and texture parameters
+     * Construct a new Alien with the stats of a UnitArchetype
+     *
+     * @param archetype The UnitArchetype to copy the stats of
+     */
+    public Alien(UnitArchetype archetype) {
+        this(archetype, archetype.getTexture());
+    }
+
+    /**
+     * Construct a new Alien with the stats of a UnitArchetype and a different texture
+     *
+     * @param archetype The UnitArchetype to copy the stats of
+     * @param texture   The texture graphic of the Alien
+     */
+    public Alien(UnitArchetype archetype, TextureManager texture) {
+        this(archetype.getName(), archetype.getSpeed(), archetype.getDamage(), archetype.getRateOfFire(), archetype.getHealth(),
+                archetype.getRange(), archetype.getChanceToHit(), archetype.getWidth(), archetype.getHeight(), texture, archetype.getBehaviour());
+    }
+
+    /**
+     * Construct a new Alien with given name, speed, damage, rateOfFile, health, range, chance to hit, width and height, texture and behaviour parameters
      *
      * @param name        The name of the Alien
      * @param speed       The speed of the Alien
@@ -32,63 +59,49 @@ public class Alien extends Unit {
      * @param width       The width of the Alien
      * @param height      The height of the Alien
      * @param texture     The texture graphic of the Alien
+     * @param behaviour   What the Alien does on each simulation step
+     */
+    public Alien(String name, double speed, double damage, double rateOfFire, double health, double range, double chanceToHit, int width, int height, TextureManager texture, UnitBehaviour behaviour) {
+        super(name, speed, damage, rateOfFire, health, range, chanceToHit, width, height, true, texture, behaviour);
+    }
+
+    /**
+     * Construct a new Alien from a snapshot
+     *
+     * @param reader The snapshot to read
      */
-    public Alien(String name, double speed, double damage, double rateOfFire, double health, double range, double chanceToHit, int width, int height, TextureManager texture) {
-        super(name, speed, damage, rateOfFire, health, range, chanceToHit, width, height, true, texture);
+    Alien(SaveReader reader) {
+        super(reader, true);
+        distance = reader.getDouble();
     }
 
     @Override
-    public void render(float delta) {
-        super.render(delta);
-        if (!isAdjacent)
-            batch.setColor(1f, 1f, 1f, 1f);
-        else
+    public void writeSnapshot(SaveWriter writer) {
+        super.writeSnapshot(writer);
+        writer.putDouble(distance);
+    }
+
+    @Override
+    public void render(float alpha) {
+        SpriteBatch batch = GameEngine.getBatch();
+        if (isAdjacent)
             batch.setColor(.5f, .5f, .5f, 1f);
-        batch.draw(texture, x, y, width, height);
-        batch.end();
+        batch.draw(getTexture(), getRenderX(alpha), y, width, height);
+        batch.setColor(Color.WHITE);
         checkInput();
-        act(delta);
-        indicatorManager.render(delta, x, y);
     }
 
-    private void act(float delta) {
-        if (checkIsNotZeroHealth()) {
-            switch (name) {
-                case "Kamikaze Alien":
-                    if (isAdjacent) {
-                        adjacentActor.takeDamage(fire());
-                        destroy();
-                    } else {
-                        move(delta);
-                    }
-                    break;
-                case "Mine":
-                    if (!isAdjacent) {
-                        unitFireHelper(-10, -30);
-                    }
-                    break;
-                case "Rapid Fire Alien":
-                    if (overloaded)
-                        overloaded = false;
-                    else {
-                        if (isAdjacent) {
-                            overloaded = rapidFireHelper();
-                        } else {
-                            move(delta);
-                        }
-                    }
-                    break;
-                default:
-                    if (isAdjacent) {
-                        adjacentActor.takeDamage(fire());
-                    } else {
-                        move(delta);
-                    }
-                    break;
-            }
-        } else {
+    @Override
+    void act(float delta) {
+        if (checkIsNotZeroHealth())
+            getBehaviour().act(this, delta);
+        else
             destroy();
-        }
+    }
+
+    @Override
+    void advance(float delta) {
+        move(delta);
     }
 
     /**
@@ -97,8 +110,12 @@ public class Alien extends Unit {
      * @param delta The time in seconds since the last move
      */
     private void move(float delta) {
-        if (!isAdjacent)
-            x += (speed * delta);
+        if (!isAdjacent) {
+            //Keep the fraction of a pixel moved so that slow speeds aren't lost to rounding
+            distance += speed * delta;
+            x += (int) distance;
+            distance -= (int) distance;
+        }
         else if (getAdjacentActor() != null && !((Unit) getAdjacentActor()).isFacingLeft())
             getAdjacentActor().takeDamage(getDamage());
     }
@@ -1,16 +1,17 @@
 package com.aston.group.stationdefender.actors;
 
-import com.aston.group.stationdefender.actors.helpers.ParticleEffectHelper;
 import com.aston.group.stationdefender.config.Constants;
 import com.aston.group.stationdefender.engine.GameEngine;
 import com.aston.group.stationdefender.utils.FontManager;
 import com.aston.group.stationdefender.utils.TextureManager;
 import com.aston.group.stationdefender.utils.indicators.IndicatorManager;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Tower is the object which the Humans defend,
@@ -22,27 +23,38 @@ public class Tower implements Actor {
     private static final String name = "Tower";
     private static final int height = 400;
     private static final int width = 100;
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final Texture texture = TextureManager.loadTexture(TextureManager.TOWER);
-    private final BitmapFont font = FontManager.getFont(16);
-    private final ParticleEffectHelper particleEffectHelper = new ParticleEffectHelper();
     private final IndicatorManager indicatorManager = new IndicatorManager();
     private int x;
     private int y = 100;
     private int health = Constants.TOWER_HEALTH;
     private boolean exists = true;
+    private TextureRegion texture;
 
     @Override
-    public void render(float delta) {
-        batch.begin();
-        particleEffectHelper.renderParticleEffect(delta, batch, x, y);
+    public void update(float delta) {
+        //The Tower only changes when it is damaged or healed
+        indicatorManager.update(delta);
+    }
+
+    @Override
+    public void render(float alpha) {
+        SpriteBatch batch = GameEngine.getBatch();
+        BitmapFont font = FontManager.getFont(16);
+        if (texture == null)
+            texture = TextureManager.loadRegion(TextureManager.TOWER);
         batch.draw(texture, x, y, width, height);
         font.setColor(Color.BLACK);
         font.draw(batch, "Health: " + health, (Gdx.graphics.getWidth() / 2) - 499, Gdx.graphics.getHeight() - 50);
         font.setColor(Color.WHITE);
         font.draw(batch, "Health: " + health, (Gdx.graphics.getWidth() / 2) - 500, Gdx.graphics.getHeight() - 50);
-        batch.end();
-        indicatorManager.render(delta, x, y);
+    }
+
+    /**
+     * Render the Tower's damage and health indicators.
+     * Must be called between the SpriteBatch's begin and end, after every explosion has been rendered.
+     */
+    public void renderIndicators() {
+        indicatorManager.render(x, y);
     }
 
     /**
@@ -61,7 +73,10 @@ public class Tower implements Actor {
 
     @Override
     public void dispose() {
-        texture.dispose();
+        if (texture != null) {
+            TextureManager.unloadRegion(TextureManager.TOWER);
+            texture = null;
+        }
         indicatorManager.dispose();
     }
 
@@ -80,11 +95,39 @@ public class Tower implements Actor {
         if (health - damage <= 0) {
             health = 0;
             exists = false;
-            particleEffectHelper.destroy(x, y);
         } else
             health -= damage;
     }
 
+    /**
+     * Write the Tower's health to a snapshot
+     *
+     * @param writer The snapshot to write to
+     */
+    public void writeSnapshot(SaveWriter writer) {
+        writer.putInt(health);
+        writer.putBoolean(exists);
+    }
+
+    /**
+     * Restore the Tower's health from a snapshot written by {@link #writeSnapshot(SaveWriter)}
+     *
+     * @param reader The snapshot to read
+     */
+    public void readSnapshot(SaveReader reader) {
+        health = reader.getInt();
+        exists = reader.getBoolean();
+    }
+
+    /**
+     * Returns the health of the Tower
+     *
+     * @return The health of the Tower
+     */
+    public int getHealth() {
+        return health;
+    }
+
     /**
      * Add health the the Tower
      *
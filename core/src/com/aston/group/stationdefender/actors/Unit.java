@@ -1,18 +1,18 @@
 package com.aston.group.stationdefender.actors;
 
-import com.aston.group.stationdefender.actors.helpers.ParticleEffectHelper;
 import com.aston.group.stationdefender.callbacks.UnitCallback;
-import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.engine.GameClock;
 import com.aston.group.stationdefender.utils.Input;
 import com.aston.group.stationdefender.utils.TextureManager;
 import com.aston.group.stationdefender.utils.hud.Hud;
 import com.aston.group.stationdefender.utils.hud.HudElement;
 import com.aston.group.stationdefender.utils.hud.HudUnit;
 import com.aston.group.stationdefender.utils.indicators.IndicatorManager;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 
 import java.util.Random;
 
@@ -27,24 +27,26 @@ public abstract class Unit implements Actor {
     final IndicatorManager indicatorManager = new IndicatorManager();
     final int width;
     final int height;
-    final Texture texture;
+    private final TextureManager textureId;
     final String name;
-    final SpriteBatch batch = GameEngine.getBatch();
     private final double rateOfFire;
     private final double range;
-    private final ParticleEffectHelper particleEffectHelper = new ParticleEffectHelper();
     private final double chanceToHit;
     private final boolean facingLeft;
+    private final UnitBehaviour behaviour;
     double damage;
     int x;
+    int prevX;
     int y;
     boolean isAdjacent;
     Actor adjacentActor;
+    boolean overloaded;
     private UnitCallback unitCallback;
     private boolean exists = true;
     private double health;
-    private long lastTime;
+    private long lastFireTick = Long.MIN_VALUE;
     private HudElement hudElement;
+    private TextureRegion texture;
 
     /**
      * Construct a new Unit with given name, speed, damage, rateOfFile, health, range, chance to hit width, height,
@@ -61,8 +63,9 @@ public abstract class Unit implements Actor {
      * @param height      The height of the Unit
      * @param facingLeft  Whether the Unit is facing left or not
      * @param texture     The texture graphic of the Unit
+     * @param behaviour   What the Unit does on each simulation step
      */
-    Unit(String name, double speed, double damage, double rateOfFire, double health, double range, double chanceToHit, int width, int height, boolean facingLeft, TextureManager texture) {
+    Unit(String name, double speed, double damage, double rateOfFire, double health, double range, double chanceToHit, int width, int height, boolean facingLeft, TextureManager texture, UnitBehaviour behaviour) {
         this.name = name;
         this.speed = speed;
         this.damage = damage;
@@ -73,7 +76,87 @@ public abstract class Unit implements Actor {
         this.height = height;
         this.chanceToHit = chanceToHit;
         this.facingLeft = facingLeft;
-        this.texture = TextureManager.loadTexture(texture);
+        this.textureId = texture;
+        this.behaviour = behaviour;
+    }
+
+    /**
+     * Construct a new Unit from a snapshot written by {@link #writeSnapshot(SaveWriter)}
+     *
+     * @param reader     The snapshot to read, just after the type of the Unit
+     * @param facingLeft Whether the Unit is facing left or not
+     */
+    Unit(SaveReader reader, boolean facingLeft) {
+        this.facingLeft = facingLeft;
+        name = reader.getString();
+        speed = reader.getDouble();
+        damage = reader.getDouble();
+        rateOfFire = reader.getDouble();
+        health = reader.getDouble();
+        range = reader.getDouble();
+        chanceToHit = reader.getDouble();
+        width = reader.getInt();
+        height = reader.getInt();
+        textureId = reader.getEnum(TextureManager.values());
+        behaviour = reader.getEnum(UnitBehaviour.values());
+        x = reader.getInt();
+        prevX = reader.getInt();
+        y = reader.getInt();
+        exists = reader.getBoolean();
+        overloaded = reader.getBoolean();
+        lastFireTick = reader.getLong();
+    }
+
+    /**
+     * Construct a new Alien or Weapon from a snapshot written by {@link #writeSnapshot(SaveWriter)}
+     *
+     * @param reader The snapshot to read
+     * @return The Unit as it was when the snapshot was written
+     */
+    public static Unit readSnapshot(SaveReader reader) {
+        if (reader.getBoolean())
+            return new Weapon(reader);
+        return new Alien(reader);
+    }
+
+    /**
+     * Write the Unit's stats and simulation state to a snapshot.
+     * The stats are written as well as the state so the Unit is restored the same even if the definitions change.
+     * The adjacent Actor isn't written as it is found again before the Unit next acts.
+     *
+     * @param writer The snapshot to write to
+     */
+    public void writeSnapshot(SaveWriter writer) {
+        writer.putBoolean(this instanceof Weapon);
+        writer.putString(name);
+        writer.putDouble(speed);
+        writer.putDouble(damage);
+        writer.putDouble(rateOfFire);
+        writer.putDouble(health);
+        writer.putDouble(range);
+        writer.putDouble(chanceToHit);
+        writer.putInt(width);
+        writer.putInt(height);
+        writer.putEnum(textureId);
+        writer.putEnum(behaviour);
+        writer.putInt(x);
+        writer.putInt(prevX);
+        writer.putInt(y);
+        writer.putBoolean(exists);
+        writer.putBoolean(overloaded);
+        writer.putLong(lastFireTick);
+    }
+
+    /**
+     * Returns the texture of the Unit, loading it the first time the Unit is rendered.
+     * The simulation never calls this, so a Unit can be used without a graphics context.
+     *
+     * @return The TextureRegion of the Unit
+     */
+    TextureRegion getTexture() {
+        if (texture == null)
+            texture = TextureManager.loadRegion(textureId);
+        return texture;
     }
 
     /**
@@ -86,9 +169,51 @@ public abstract class Unit implements Actor {
     }
 
     @Override
-    public void render(float delta) {
-        batch.begin();
-        renderParticleEffect(delta, batch);
+    public void update(float delta) {
+        prevX = x;
+        act(delta);
+        indicatorManager.update(delta);
+    }
+
+    /**
+     * Perform the Unit's behaviour for a single simulation step
+     *
+     * @param delta The length of the simulation step in seconds
+     */
+    abstract void act(float delta);
+
+    /**
+     * Advance the Unit when there is nothing adjacent to attack
+     *
+     * @param delta The length of the simulation step in seconds
+     */
+    abstract void advance(float delta);
+
+    /**
+     * Returns what the Unit does on each simulation step
+     *
+     * @return The UnitBehaviour of the Unit
+     */
+    public UnitBehaviour getBehaviour() {
+        return behaviour;
+    }
+
+    /**
+     * Returns the X co-ordinate to draw the Unit at, interpolated between the last two simulation steps
+     *
+     * @param alpha How far between the last two simulation steps to draw, from 0 to 1
+     * @return The X co-ordinate to draw the Unit at
+     */
+    float getRenderX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Render the Unit's damage indicators.
+     * Must be called between the SpriteBatch's begin and end, after every explosion has been rendered.
+     */
+    public void renderIndicators() {
+        indicatorManager.render(x, y);
     }
 
     @Override
@@ -102,13 +227,15 @@ public abstract class Unit implements Actor {
             hudElement = null;
         }
         exists = false;
-        particleEffectHelper.destroy(x, y);
     }
 
     @Override
     public void dispose() {
         indicatorManager.dispose();
-        texture.dispose();
+        if (texture != null) {
+            TextureManager.unloadRegion(textureId);
+            texture = null;
+        }
     }
 
     @Override
@@ -199,17 +326,6 @@ public abstract class Unit implements Actor {
         }
     }
 
-    /**
-     * Returns whether there is a Unit adjacent to the current Unit
-     *
-     * @param actor The Unit to check whether Unit is adjacent to the current Unit
-     * @return true if there is a Unit adjacent to the current Unit,
-     * false if there is not a Unit adjacent to the current Unit
-     */
-    public boolean isUnitAdjacent(Actor actor) {
-        return actor != this && actor.getX() + actor.getWidth() > x && actor.getX() < x + width && y + height > y && y < y + height;
-    }
-
     /**
      * Checks if the Health of the Unit is less than 1.
      *
@@ -225,7 +341,8 @@ public abstract class Unit implements Actor {
      * @return The total damage done by the number of fires
      */
     double fire() {
-        Random rng = new Random();
+        //The boss isn't in a Lane, so it falls back to the shared libGDX Random
+        Random rng = unitCallback != null ? unitCallback.getRandom() : MathUtils.random;
         int hit = 0;
         for (int i = 0; i < rateOfFire; i++) {
             if (chanceToHit >= rng.nextInt(10)) {
@@ -269,6 +386,7 @@ public abstract class Unit implements Actor {
      */
     public void setX(int x) {
         this.x = x;
+        prevX = x;
     }
 
     /**
@@ -308,13 +426,12 @@ public abstract class Unit implements Actor {
     }
 
     /**
-     * Render the particle effect
+     * Returns the GameClock that the Unit's timers read from
      *
-     * @param delta The time in seconds since the last render
-     * @param batch The SpriteBatch to render the particle effect on
+     * @return The GameClock of the Level the Unit is in, null if the Unit isn't in a Lane
      */
-    private void renderParticleEffect(float delta, Batch batch) {
-        particleEffectHelper.renderParticleEffect(delta, batch, x, y);
+    GameClock getClock() {
+        return unitCallback != null ? unitCallback.getClock() : null;
     }
 
     /**
@@ -340,9 +457,12 @@ public abstract class Unit implements Actor {
      * @param dSpeed The difference in speed for the missile
      */
     void unitFireHelper(int dXPos, int dSpeed) {
-        if (unitCallback != null && System.currentTimeMillis() - lastTime >= (10000 / rateOfFire)) {
+        if (unitCallback == null)
+            return;
+        GameClock clock = unitCallback.getClock();
+        if (lastFireTick == Long.MIN_VALUE || clock.getSecondsSince(lastFireTick) >= (10 / rateOfFire)) {
             unitCallback.onFire(x + dXPos, y + 35, speed + dSpeed, damage);
-            lastTime = System.currentTimeMillis();
+            lastFireTick = clock.getTicks();
         }
     }
 
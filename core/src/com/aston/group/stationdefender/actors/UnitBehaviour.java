@@ -0,0 +1,88 @@
+package com.aston.group.stationdefender.actors;
+
+/**
+ * UnitBehaviour is what a Unit does on each simulation step, given to the Unit when it is constructed.
+ * Aliens advance by moving along their Lane and Weapons advance by firing along it,
+ * so the same UnitBehaviour can be shared by both.
+ */
+public enum UnitBehaviour {
+    /**
+     * Attack the adjacent Actor, otherwise advance
+     */
+    ATTACK(false) {
+        @Override
+        void act(Unit unit, float delta) {
+            if (unit.isAdjacent)
+                unit.adjacentActor.takeDamage(unit.fire());
+            else
+                unit.advance(delta);
+        }
+    },
+    /**
+     * Attack the adjacent Actor once and destroy the Unit, otherwise advance
+     */
+    KAMIKAZE(false) {
+        @Override
+        void act(Unit unit, float delta) {
+            if (unit.isAdjacent) {
+                unit.adjacentActor.takeDamage(unit.fire());
+                unit.destroy();
+            } else {
+                unit.advance(delta);
+            }
+        }
+    },
+    /**
+     * Attack the adjacent Actor rapidly, resting for a step after overloading, otherwise advance
+     */
+    RAPID_FIRE(false) {
+        @Override
+        void act(Unit unit, float delta) {
+            if (unit.overloaded)
+                unit.overloaded = false;
+            else if (unit.isAdjacent)
+                unit.overloaded = unit.rapidFireHelper();
+            else
+                unit.advance(delta);
+        }
+    },
+    /**
+     * Stay still wherever the Unit is placed, firing while nothing is adjacent
+     */
+    STATIONARY(true) {
+        @Override
+        void act(Unit unit, float delta) {
+            if (!unit.isAdjacent)
+                unit.unitFireHelper(-10, -30);
+        }
+    };
+
+    private final boolean placedOnRandomTile;
+
+    /**
+     * Construct a new UnitBehaviour
+     *
+     * @param placedOnRandomTile Whether a Unit with the UnitBehaviour spawns on a random tile of its Lane
+     */
+    UnitBehaviour(boolean placedOnRandomTile) {
+        this.placedOnRandomTile = placedOnRandomTile;
+    }
+
+    /**
+     * Perform the UnitBehaviour for a single simulation step
+     *
+     * @param unit  The Unit performing the UnitBehaviour
+     * @param delta The length of the simulation step in seconds
+     */
+    abstract void act(Unit unit, float delta);
+
+    /**
+     * Returns whether a Unit with the UnitBehaviour spawns on a random tile of its Lane,
+     * rather than at the end of the Lane
+     *
+     * @return true if the Unit spawns on a random tile, false if it spawns at the end of the Lane
+     */
+    public boolean isPlacedOnRandomTile() {
+        return placedOnRandomTile;
+    }
+}
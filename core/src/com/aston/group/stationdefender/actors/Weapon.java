@@ -1,7 +1,13 @@
 package com.aston.group.stationdefender.actors;
 
-import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.config.Definitions;
+import com.aston.group.stationdefender.config.UnitArchetype;
+import com.aston.group.stationdefender.engine.GameClock;
+import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
 import com.aston.group.stationdefender.utils.TextureManager;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 
 /**
  * Weapon is a class that represents a weapon object
@@ -12,22 +18,32 @@ import com.aston.group.stationdefender.utils.TextureManager;
  */
 public class Weapon extends Unit {
     private final int cost;
+    private final double buildTime;
     private boolean built;
     private int costToUpgrade;
-    private double remainingBuildTime;
-    private long startTime;
-    private boolean overloaded;
+    private long buildStartTick = -1;
 
     /**
      * Construct a new default Weapon
      */
     public Weapon() {
-        this("Weapon", 50, Constants.DEFAULT_DAMAGE, 10.0, Constants.WEAPON_HEALTH, 12, 5.0, 1.5, 10, 10, TextureManager.WEAPON);
+        this(Definitions.getItem(ItemFactory.WEAPON).getUnit());
+    }
+
+    /**
+     * Construct a new Weapon with the stats of a UnitArchetype
+     *
+     * @param archetype The UnitArchetype to copy the stats of
+     */
+    public Weapon(UnitArchetype archetype) {
+        this(archetype.getName(), archetype.getSpeed(), archetype.getDamage(), archetype.getRateOfFire(), archetype.getHealth(),
+                archetype.getRange(), archetype.getChanceToHit(), archetype.getBuildTime(), archetype.getCost(),
+                archetype.getCostToUpgrade(), archetype.getTexture(), archetype.getBehaviour());
     }
 
     /**
      * Construct a new Weapon with given name, speed, damage, rateOfFile, health, range, chance to hit, build time cost,
-     * costToUpgrade and texture parameters
+     * costToUpgrade, texture and behaviour parameters
      *
      * @param name          The name of the Weapon
      * @param speed         The speed of the Weapon
@@ -40,64 +56,71 @@ public class Weapon extends Unit {
      * @param cost          The cost of the Weapon
      * @param costToUpgrade The cost to upgrade to the Weapon
      * @param texture       The texture graphic of the Weapon
+     * @param behaviour     What the Weapon does on each simulation step once it is built
      */
     public Weapon(String name, double speed, double damage, double rateOfFire, double health, double range, double chanceToHit,
-                  double buildTime, int cost, int costToUpgrade, TextureManager texture) {
-        super(name, speed, damage, rateOfFire, health, range, chanceToHit, 60, 60, false, texture);
+                  double buildTime, int cost, int costToUpgrade, TextureManager texture, UnitBehaviour behaviour) {
+        super(name, speed, damage, rateOfFire, health, range, chanceToHit, 60, 60, false, texture, behaviour);
         this.cost = cost;
         this.costToUpgrade = costToUpgrade;
-        remainingBuildTime = buildTime;
-        startTime = System.currentTimeMillis();
+        this.buildTime = buildTime;
+    }
+
+    /**
+     * Construct a new Weapon from a snapshot
+     *
+     * @param reader The snapshot to read
+     */
+    Weapon(SaveReader reader) {
+        super(reader, false);
+        cost = reader.getInt();
+        buildTime = reader.getDouble();
+        costToUpgrade = reader.getInt();
+        built = reader.getBoolean();
+        buildStartTick = reader.getLong();
+    }
+
+    @Override
+    public void writeSnapshot(SaveWriter writer) {
+        super.writeSnapshot(writer);
+        writer.putInt(cost);
+        writer.putDouble(buildTime);
+        writer.putInt(costToUpgrade);
+        writer.putBoolean(built);
+        writer.putLong(buildStartTick);
     }
 
     @Override
-    public void render(float delta) {
-        super.render(delta);
-        batch.draw(texture, x, y, width, height);
-        batch.end();
-        act();
+    public void render(float alpha) {
+        GameEngine.getBatch().draw(getTexture(), getRenderX(alpha), y, width, height);
         checkInput();
     }
 
-    private void act() {
-        if (built && checkIsNotZeroHealth()) {
-            switch (name) {
-                case "Rapid Fire Weapon":
-                    if (overloaded) {
-                        overloaded = false;
-                    } else {
-                        if (isAdjacent) {
-                            overloaded = rapidFireHelper();
-                        } else {
-                            unitFireHelper(80, 0);
-                        }
-                    }
-                default:
-                    if (isAdjacent) {
-                        adjacentActor.takeDamage(fire());
-                    } else {
-                        unitFireHelper(80, 0);
-                    }
-                    break;
-            }
-        } else {
-            decrementBuildTimer();
-        }
+    @Override
+    void act(float delta) {
+        if (built && checkIsNotZeroHealth())
+            getBehaviour().act(this, delta);
+        else
+            updateBuildTimer();
+    }
+
+    @Override
+    void advance(float delta) {
+        unitFireHelper(80, 0);
     }
 
     /**
-     * Decrements the build timer by 0.5
-     * if the time since the last call to the method is greater than or equal to 500 milliseconds.
-     * If afterwards the build timer is less than or equal to 0 then built is set to true.
+     * Starts the build timer on the Weapon's first simulation step, then sets built to true
+     * once the build time has passed on the GameClock.
      */
-    private void decrementBuildTimer() {
-        if (System.currentTimeMillis() - startTime >= 500) {
-            if (remainingBuildTime > 0)
-                remainingBuildTime -= 0.5;
-            if (remainingBuildTime <= 0)
-                built = true;
-            startTime = System.currentTimeMillis();
-        }
+    private void updateBuildTimer() {
+        GameClock clock = getClock();
+        if (clock == null)
+            return;
+        if (buildStartTick < 0)
+            buildStartTick = clock.getTicks();
+        if (clock.getSecondsSince(buildStartTick) >= buildTime)
+            built = true;
     }
 
     /**
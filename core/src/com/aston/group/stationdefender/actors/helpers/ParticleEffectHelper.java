@@ -1,46 +1,147 @@
 package com.aston.group.stationdefender.actors.helpers;
 
+import com.aston.group.stationdefender.config.Constants;
 import com.aston.group.stationdefender.utils.SoundManager;
 import com.aston.group.stationdefender.utils.TextureManager;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.utils.Array;
 
 /**
- * Helper class to deal with the explosion animation effect.
+ * Helper enum to deal with the explosion animation effect.
+ * Explosions are obtained from a pool built from a single prototype, and are
+ * tracked here rather than by their Actor so that they outlive the Actor that exploded.
+ * The live explosions are kept in the order they started, so the first is always the oldest.
  *
  * @author Jonathon Fitch
  */
-public class ParticleEffectHelper {
-    private ParticleEffect particleEffect;
+public enum ParticleEffectHelper {
+    ;
+
+    private static final Array<PooledEffect> effects = new Array<>(true, Constants.MAX_PARTICLE_EFFECTS);
+    private static ParticleEffect prototype;
+    private static ParticleEffectPool pool;
+    private static int poolHits;
+    private static int poolMisses;
+
+    /**
+     * Load the explosion prototype and create the pool of explosions.
+     * Called at startup so that the first explosion doesn't stall the frame.
+     */
+    public static void load() {
+        if (prototype != null)
+            return;
+        prototype = TextureManager.loadParticleEffect();
+        prototype.setEmittersCleanUpBlendFunction(false);
+        pool = new ParticleEffectPool(prototype, Constants.MAX_PARTICLE_EFFECTS, Constants.MAX_PARTICLE_EFFECTS);
+    }
 
     /**
-     * Create the ParticleEffect starting at given X and Y co-ordinates
+     * Start an explosion at given X and Y co-ordinates.
+     * Once the maximum number of live explosions is reached, the oldest explosion is recycled.
      *
-     * @param x The start X co-ordinate of the ParticleEffect
-     * @param y The start Y co-ordinate of the ParticleEffect
+     * @param x The start X co-ordinate of the explosion
+     * @param y The start Y co-ordinate of the explosion
      */
-    public void destroy(int x, int y) {
+    public static void destroy(int x, int y) {
         SoundManager.playSound(SoundManager.EXPLOSION);
-        particleEffect = TextureManager.loadParticleEffect();
-        particleEffect.getEmitters().first().setPosition(x, y);
-        particleEffect.start();
+        load();
+        if (effects.size >= Constants.MAX_PARTICLE_EFFECTS)
+            effects.removeIndex(0).free();
+        if (pool.getFree() > 0)
+            poolHits++;
+        else
+            poolMisses++;
+        PooledEffect effect = pool.obtain();
+        effect.setPosition(x, y);
+        effect.start();
+        effects.add(effect);
     }
 
     /**
-     * Render the particle effect
+     * Render every live explosion, returning completed explosions to the pool.
+     * Must be called between the SpriteBatch's begin and end, after every Actor has been rendered.
      *
      * @param delta The time in seconds since the last render
-     * @param batch The SpriteBatch to render the particle effect on
-     * @param x     The X co-ordinate to render the ParticleEffect at
-     * @param y     The Y co-ordinate to render the ParticleEffect at
-     */
-    public void renderParticleEffect(float delta, Batch batch, int x, int y) {
-        if (particleEffect != null) {
-            particleEffect.update(delta);
-            particleEffect.setPosition(x, y);
-            particleEffect.draw(batch);
-            if (particleEffect.isComplete())
-                particleEffect.dispose();
+     * @param batch The SpriteBatch to render the explosions on
+     */
+    public static void render(float delta, Batch batch) {
+        for (int i = effects.size - 1; i >= 0; i--) {
+            PooledEffect effect = effects.get(i);
+            effect.update(delta);
+            effect.draw(batch);
+            if (effect.isComplete()) {
+                effects.removeIndex(i);
+                effect.free();
+            }
+        }
+        endParticleEffects(batch);
+    }
+
+    /**
+     * Restore the default blend function after a pass of particle effects.
+     * Effects leave their blend function set so that consecutive effects don't flush the batch.
+     *
+     * @param batch The SpriteBatch the particle effects were rendered on
+     */
+    public static void endParticleEffects(Batch batch) {
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Return every live explosion to the pool, for example when a Level ends
+     */
+    public static void clear() {
+        for (PooledEffect effect : effects) {
+            effect.free();
+        }
+        effects.clear();
+    }
+
+    /**
+     * Returns the number of explosions currently playing
+     *
+     * @return The number of live explosions
+     */
+    public static int getLiveEffectCount() {
+        return effects.size;
+    }
+
+    /**
+     * Returns the number of explosions that reused a pooled effect
+     *
+     * @return The number of pool hits
+     */
+    public static int getPoolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Returns the number of explosions that had to copy the prototype
+     *
+     * @return The number of pool misses
+     */
+    public static int getPoolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Dispose of the explosion prototype and every pooled explosion
+     */
+    public static void dispose() {
+        effects.clear();
+        if (pool != null) {
+            pool.clear();
+            pool = null;
+        }
+        if (prototype != null) {
+            prototype.dispose();
+            prototype = null;
         }
+        poolHits = 0;
+        poolMisses = 0;
     }
-}
\ No newline at end of file
+}
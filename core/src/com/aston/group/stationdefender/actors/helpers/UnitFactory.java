@@ -2,7 +2,8 @@ package com.aston.group.stationdefender.actors.helpers;
 
 import com.aston.group.stationdefender.actors.Actor;
 import com.aston.group.stationdefender.actors.Alien;
-import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.actors.Unit;
+import com.aston.group.stationdefender.config.Definitions;
 import com.aston.group.stationdefender.utils.TextureManager;
 
 import java.util.Random;
@@ -25,49 +26,33 @@ public enum UnitFactory {
      * @param unitFactory The set of Units to choose from
      * @return A new Enemy Unit
      */
-    private static Actor getEnemy(UnitFactory unitFactory) {
-        Actor actor = null;
-        switch (unitFactory) {
-            case ALIEN:
-                actor = new Alien();
-                break;
-            case CLOSE_COMBAT_ALIEN:
-                actor = new Alien("Close Combat Alien", -100, 60.0, 2, Constants.UNIT_HEALTH, 2, 7.0, 20, 20, TextureManager.CLOSE_COMBAT_ALIEN);
-                break;
-            case KAMIKAZE:
-                actor = new Alien("Kamikaze Alien", -100, 100, 1, Constants.UNIT_HEALTH, 3, 0.9, 100, 38, TextureManager.KAMIKAZE_ALIEN);
-                break;
-            case RAPID_FIRE_ALIEN:
-                actor = new Alien("Rapid Fire Alien", -125, 5.0, 10, Constants.UNIT_HEALTH, 12, 0.5, 100, 38, TextureManager.RAPID_FIRE_ALIEN);
-                break;
-            case MINE:
-                actor = new Alien("Mine", 0, 60, 4.0, Constants.UNIT_HEALTH, 4, 0.9, 60, 50, TextureManager.MINE_ALIEN);
-                break;
-        }
-        return actor;
+    private static Unit getEnemy(UnitFactory unitFactory) {
+        return new Alien(Definitions.getEnemy(unitFactory));
     }
 
     /**
      * Returns a random Enemy Unit
      *
+     * @param random The source of randomness to pick the Enemy Unit with
      * @return The new Enemy Unit
      */
-    public static Actor getRandomEnemy() {
-        return getEnemy(values()[(int) (Math.random() * (values().length))]);
+    public static Unit getRandomEnemy(Random random) {
+        return getEnemy(values()[random.nextInt(values().length)]);
     }
 
     /**
      * Returns a new Boss Enemy
      *
+     * @param random The source of randomness to pick the Boss Enemy's texture with
      * @return The new Boss Enemy unit
      */
-    public static Actor getBossEnemy() {
+    public static Actor getBossEnemy(Random random) {
         TextureManager[] bossEnemies = {
                 TextureManager.BOSS_ALIEN_1,
                 TextureManager.BOSS_ALIEN_2,
                 TextureManager.BOSS_ALIEN_3,
                 TextureManager.BOSS_ALIEN_4
         };
-        return new Alien("Boss Alien", -60, 200, 5, 800, 5.0, 8, 300, 225, bossEnemies[new Random().nextInt(bossEnemies.length)]);
+        return new Alien(Definitions.getBoss(), bossEnemies[random.nextInt(bossEnemies.length)]);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.aston.group.stationdefender.callbacks;
 
+import com.aston.group.stationdefender.engine.GameClock;
 import com.aston.group.stationdefender.gamesetting.items.Item;
 
 /**
@@ -49,10 +50,25 @@ public interface LaneCallback {
      */
     void collectItem(Item item);
 
+    /**
+     * Callback to show an explosion where a Unit was destroyed
+     *
+     * @param x The X co-ordinate of the explosion
+     * @param y The Y co-ordinate of the explosion
+     */
+    void onExplosion(int x, int y);
+
     /**
      * Callback to get the level number
      *
      * @return the levelNumber
      */
     int getLevelNumber();
+
+    /**
+     * Callback to get the GameClock of the Level
+     *
+     * @return The GameClock of the Level
+     */
+    GameClock getClock();
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.aston.group.stationdefender.callbacks;
 
-import com.aston.group.stationdefender.gamesetting.items.Item;
-import com.badlogic.gdx.utils.Array;
+import com.aston.group.stationdefender.utils.resources.StackableInventory;
 
 /**
  * LevelInfoCallback is the callback class for loading and saving data
@@ -18,5 +17,5 @@ public interface LevelInfoCallback {
      * @param levelNumber The highest Level number the Player got to in the previous game
      * @param items       The Items the Player had in the previous game
      */
-    void onLoaded(int score, int money, int levelNumber, Array<Item> items);
+    void onLoaded(int score, int money, int levelNumber, StackableInventory items);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.aston.group.stationdefender.callbacks;
+
+/**
+ * LoadingCallback is the callback class for LoadingScreen.
+ */
+public interface LoadingCallback {
+
+    /**
+     * The callback for when every asset has been loaded
+     */
+    void onLoaded();
+}
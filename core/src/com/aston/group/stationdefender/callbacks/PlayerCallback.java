@@ -30,4 +30,28 @@ public interface PlayerCallback {
      * @param health The amount of health to be added to the Tower
      */
     void addHealth(int health);
+
+    /**
+     * The callback to collect a dropped Item on the Level
+     *
+     * @param x The X co-ordinate to collect an Item at
+     * @param y The Y co-ordinate to collect an Item at
+     * @return true if an Item was collected, false if not
+     */
+    boolean collectItemAt(int x, int y);
+
+    /**
+     * The callback to pause or unpause the simulation, without leaving the Level
+     */
+    void onTogglePause();
+
+    /**
+     * The callback to change how fast the simulation runs
+     */
+    void onCycleTimeScale();
+
+    /**
+     * The callback to take a single simulation step while the simulation is paused
+     */
+    void onStep();
 }
\ No newline at end of file
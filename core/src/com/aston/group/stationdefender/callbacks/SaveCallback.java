@@ -0,0 +1,24 @@
+package com.aston.group.stationdefender.callbacks;
+
+/**
+ * SaveCallback is the callback class for the AutosaveService.
+ * Both methods are called on the render thread.
+ */
+public interface SaveCallback {
+
+    /**
+     * The callback for when a save has been written to the disk, or a save file has been deleted
+     *
+     * @param path          The path of the save file
+     * @param latencyMillis The time in milliseconds from the save being requested to it being on the disk
+     */
+    void onSaved(String path, float latencyMillis);
+
+    /**
+     * The callback for when a save couldn't be written
+     *
+     * @param path      The path of the save file
+     * @param exception Why the save couldn't be written
+     */
+    void onSaveFailed(String path, RuntimeException exception);
+}
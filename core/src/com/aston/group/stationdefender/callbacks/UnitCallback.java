@@ -1,5 +1,9 @@
 package com.aston.group.stationdefender.callbacks;
 
+import com.aston.group.stationdefender.engine.GameClock;
+
+import java.util.Random;
+
 /**
  * UnitCallBack is the callback class for Unit
  *
@@ -16,4 +20,18 @@ public interface UnitCallback {
      * @param damage The damage of the Weapon
      */
     void onFire(int x, int y, double speed, double damage);
-}
\ No newline at end of file
+
+    /**
+     * Returns the source of randomness of the Lane the Unit is in, so that a seeded Level plays out the same way every time
+     *
+     * @return The Random of the Lane
+     */
+    Random getRandom();
+
+    /**
+     * Returns the GameClock that the Unit's timers read from
+     *
+     * @return The GameClock of the Level the Unit is in
+     */
+    GameClock getClock();
+}
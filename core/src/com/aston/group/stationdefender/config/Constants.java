@@ -50,6 +50,11 @@ public enum Constants {
     public static final int TILE_HEIGHT = 80;
     public static final int TILE_AMOUNT = 11;
     public static final int LANE_AMOUNT = 4;
+    public static final int LANE_X = 100;
+    public static final int LANE_Y = 110;
+    public static final int LANE_SPACING = TILE_HEIGHT + (TILE_HEIGHT / 4);
+    public static final int PROJECTILE_WIDTH = 10;
+    public static final int PROJECTILE_HEIGHT = 8;
 
     public static final int TOWER_HEALTH = 1000;
     public static final int UNIT_HEALTH = 100;
@@ -67,4 +72,22 @@ public enum Constants {
     public static final float VERSION = 3.0f;
 
     public static final String prefs = "PREFS";
+
+    public static final boolean DEBUG = false;
+    public static final boolean USE_TEXTURE_ATLAS = true;
+
+    public static final int MAX_SOUND_VOICES = 4;
+    public static final boolean COALESCE_SOUNDS = true;
+    public static final float SOUND_COALESCE_GAIN = 0.1f;
+
+    public static final int MAX_PARTICLE_EFFECTS = 32;
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final float STEP = 1f / TICKS_PER_SECOND;
+    public static final int MAX_STEPS_PER_FRAME = 8;
+
+    public static final boolean RECORD_REPLAYS = DEBUG;
+
+    public static final boolean PRELOAD_ASSETS = true;
+    public static final int ASSET_LOADING_BUDGET = 15;
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.aston.group.stationdefender.config;
+
+import com.aston.group.stationdefender.actors.helpers.UnitFactory;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.util.Map;
+
+/**
+ * Definitions is the registry of the UnitArchetypes and ItemArchetypes of the game, read from
+ * the definitions file once at startup and indexed by the ordinal of their UnitFactory or ItemFactory.
+ * When {@link Constants#DEBUG} is true the definitions file is read again whenever it changes,
+ * so stats can be tweaked without restarting. Units and Items already in a Level keep their stats.
+ */
+public enum Definitions {
+    ;
+
+    public static final String PATH = "data/definitions.json";
+    private static final long RELOAD_CHECK_MILLIS = 1000;
+    private static volatile Registry registry;
+    private static FileHandle file;
+    private static long lastModified;
+    private static long lastChecked;
+
+    /**
+     * Read the definitions file, replacing any definitions already loaded
+     *
+     * @param file The definitions file to read
+     */
+    public static synchronized void load(FileHandle file) {
+        Definitions.file = file;
+        lastModified = file.lastModified();
+        registry = new Registry(new Gson().fromJson(file.readString("UTF-8"), DefinitionsFile.class));
+    }
+
+    /**
+     * Read the definitions file again if it has changed since it was last read.
+     * Checks at most once a second, and keeps the current definitions if the file can't be read.
+     */
+    public static synchronized void reloadIfModified() {
+        if (file == null || TimeUtils.timeSinceMillis(lastChecked) < RELOAD_CHECK_MILLIS)
+            return;
+        lastChecked = TimeUtils.millis();
+        if (file.lastModified() == lastModified)
+            return;
+        try {
+            load(file);
+            Gdx.app.log("Definitions", "Reloaded " + file.path());
+        } catch (GdxRuntimeException | JsonParseException e) {
+            lastModified = file.lastModified();
+            Gdx.app.error("Definitions", "Failed to reload " + file.path(), e);
+        }
+    }
+
+    /**
+     * Returns the UnitArchetype of an Enemy Unit
+     *
+     * @param unitFactory The type of Enemy Unit
+     * @return The UnitArchetype of the Enemy Unit
+     */
+    public static UnitArchetype getEnemy(UnitFactory unitFactory) {
+        return getRegistry().enemies[unitFactory.ordinal()];
+    }
+
+    /**
+     * Returns the UnitArchetype of the Boss Enemy
+     *
+     * @return The UnitArchetype of the Boss Enemy
+     */
+    public static UnitArchetype getBoss() {
+        return getRegistry().boss;
+    }
+
+    /**
+     * Returns the ItemArchetype of an Item
+     *
+     * @param itemFactory The type of Item
+     * @return The ItemArchetype of the Item
+     */
+    public static ItemArchetype getItem(ItemFactory itemFactory) {
+        return getRegistry().items[itemFactory.ordinal()];
+    }
+
+    /**
+     * Returns the loaded definitions, reading the internal definitions file if nothing has been loaded yet
+     *
+     * @return The loaded definitions
+     */
+    private static Registry getRegistry() {
+        Registry result = registry;
+        if (result == null) {
+            synchronized (Definitions.class) {
+                if (registry == null)
+                    load(Gdx.files.internal(PATH));
+                result = registry;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The layout of the definitions file, as read by Gson
+     */
+    private static class DefinitionsFile {
+        private Map<UnitFactory, UnitArchetype> enemies;
+        private UnitArchetype boss;
+        private Map<ItemFactory, ItemArchetype> items;
+    }
+
+    /**
+     * A complete set of definitions, which is replaced as a whole when the definitions file is read again
+     */
+    private static class Registry {
+        private final UnitArchetype[] enemies = new UnitArchetype[UnitFactory.values().length];
+        private final UnitArchetype boss;
+        private final ItemArchetype[] items = new ItemArchetype[ItemFactory.values().length];
+
+        /**
+         * Construct a new Registry, checking that every Unit and Item has a definition
+         *
+         * @param definitionsFile The contents of the definitions file
+         */
+        Registry(DefinitionsFile definitionsFile) {
+            if (definitionsFile == null || definitionsFile.enemies == null || definitionsFile.items == null)
+                throw new GdxRuntimeException("Incomplete definitions file");
+            for (UnitFactory unitFactory : UnitFactory.values()) {
+                enemies[unitFactory.ordinal()] = checkUnit(definitionsFile.enemies.get(unitFactory), "Enemy " + unitFactory);
+            }
+            boss = checkUnit(definitionsFile.boss, "Boss");
+            for (ItemFactory itemFactory : ItemFactory.values()) {
+                ItemArchetype item = definitionsFile.items.get(itemFactory);
+                if (item == null || item.getTexture() == null)
+                    throw new GdxRuntimeException("Incomplete definition for Item " + itemFactory);
+                if (item.getUnit() != null)
+                    checkUnit(item.getUnit(), "Weapon " + itemFactory);
+                items[itemFactory.ordinal()] = item;
+            }
+        }
+
+        /**
+         * Check that a UnitArchetype has everything needed to construct a Unit
+         *
+         * @param unit The UnitArchetype to check
+         * @param what What the UnitArchetype is for, for the error message
+         * @return The UnitArchetype
+         */
+        private static UnitArchetype checkUnit(UnitArchetype unit, String what) {
+            if (unit == null || unit.getName() == null || unit.getTexture() == null || unit.getBehaviour() == null)
+                throw new GdxRuntimeException("Incomplete definition for " + what);
+            return unit;
+        }
+    }
+}
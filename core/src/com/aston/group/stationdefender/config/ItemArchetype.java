@@ -0,0 +1,86 @@
+package com.aston.group.stationdefender.config;
+
+import com.aston.group.stationdefender.utils.TextureManager;
+
+/**
+ * ItemArchetype holds the stats of a type of Item, read from the definitions file by {@link Definitions}.
+ * Items copy their stats from an ItemArchetype when they are constructed, so an ItemArchetype never changes.
+ */
+public final class ItemArchetype {
+    private String name;
+    private int cost;
+    private int health;
+    private int value;
+    private TextureManager texture;
+    private boolean placeable;
+    private UnitArchetype unit;
+
+    /**
+     * ItemArchetypes are only created by Definitions
+     */
+    private ItemArchetype() {
+    }
+
+    /**
+     * Returns the name of the Item
+     *
+     * @return The name of the Item
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the cost of the Item
+     *
+     * @return The cost of the Item
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the additional health of the Item
+     *
+     * @return The health of the Item
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the money value of the Item
+     *
+     * @return The value of the Item
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the texture of the Item
+     *
+     * @return The Texture ID of the Item
+     */
+    public TextureManager getTexture() {
+        return texture;
+    }
+
+    /**
+     * Returns whether the Item is placeable on a Tile or not
+     *
+     * @return true if the Item is placeable, false if not
+     */
+    public boolean isPlaceable() {
+        return placeable;
+    }
+
+    /**
+     * Returns the Weapon the Item places on the Level
+     *
+     * @return The UnitArchetype of the Weapon, null if the Item doesn't place a Weapon
+     */
+    public UnitArchetype getUnit() {
+        return unit;
+    }
+}
@@ -0,0 +1,157 @@
+package com.aston.group.stationdefender.config;
+
+import com.aston.group.stationdefender.actors.UnitBehaviour;
+import com.aston.group.stationdefender.utils.TextureManager;
+
+/**
+ * UnitArchetype holds the stats of a type of Unit, read from the definitions file by {@link Definitions}.
+ * Units copy their stats from a UnitArchetype when they are constructed, so a UnitArchetype never changes.
+ */
+public final class UnitArchetype {
+    private String name;
+    private double speed;
+    private double damage;
+    private double rateOfFire;
+    private double health;
+    private double range;
+    private double chanceToHit;
+    private int width;
+    private int height;
+    private double buildTime;
+    private int cost;
+    private int costToUpgrade;
+    private TextureManager texture;
+    private UnitBehaviour behaviour;
+
+    /**
+     * UnitArchetypes are only created by Definitions
+     */
+    private UnitArchetype() {
+    }
+
+    /**
+     * Returns the name of the Unit
+     *
+     * @return The name of the Unit
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the speed of the Unit
+     *
+     * @return The speed of the Unit
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Returns the damage the Unit inflicts
+     *
+     * @return The damage of the Unit
+     */
+    public double getDamage() {
+        return damage;
+    }
+
+    /**
+     * Returns the rate of fire of the Unit
+     *
+     * @return The rate of fire of the Unit
+     */
+    public double getRateOfFire() {
+        return rateOfFire;
+    }
+
+    /**
+     * Returns the health of the Unit
+     *
+     * @return The health of the Unit
+     */
+    public double getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the range of the Unit
+     *
+     * @return The range of the Unit
+     */
+    public double getRange() {
+        return range;
+    }
+
+    /**
+     * Returns the chance of the Unit to score a hit
+     *
+     * @return The chance to hit of the Unit
+     */
+    public double getChanceToHit() {
+        return chanceToHit;
+    }
+
+    /**
+     * Returns the width of the Unit, Weapons are always the same size
+     *
+     * @return The width of the Unit
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the Unit, Weapons are always the same size
+     *
+     * @return The height of the Unit
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the build time of the Unit, only used by Weapons
+     *
+     * @return The build time of the Unit
+     */
+    public double getBuildTime() {
+        return buildTime;
+    }
+
+    /**
+     * Returns the cost of the Unit, only used by Weapons
+     *
+     * @return The cost of the Unit
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the cost to upgrade the Unit, only used by Weapons
+     *
+     * @return The cost to upgrade the Unit
+     */
+    public int getCostToUpgrade() {
+        return costToUpgrade;
+    }
+
+    /**
+     * Returns the texture of the Unit
+     *
+     * @return The Texture ID of the Unit
+     */
+    public TextureManager getTexture() {
+        return texture;
+    }
+
+    /**
+     * Returns what the Unit does on each simulation step
+     *
+     * @return The UnitBehaviour of the Unit
+     */
+    public UnitBehaviour getBehaviour() {
+        return behaviour;
+    }
+}
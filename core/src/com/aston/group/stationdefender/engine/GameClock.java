@@ -0,0 +1,150 @@
+package com.aston.group.stationdefender.engine;
+
+import com.aston.group.stationdefender.config.Constants;
+
+/**
+ * GameClock is the clock of a Level, counting the simulation steps the Level has taken.
+ * Timers in the game read the GameClock rather than the wall clock, so they stay correct when the game
+ * is paused, sped up, stepped a frame at a time or simulated faster than real time.
+ * The GameClock also decides how many steps to take each frame from the time scale and the time since the last frame.
+ */
+public class GameClock {
+    private static final int[] TIME_SCALES = {1, 2, 4, 16};
+    private long ticks;
+    private int timeScaleIndex;
+    private boolean paused;
+    private boolean stepRequested;
+    private float accumulator;
+
+    /**
+     * Advance the GameClock by a single simulation step. Called by the Level at the start of each step.
+     */
+    public void tick() {
+        ticks++;
+    }
+
+    /**
+     * Returns the number of simulation steps taken
+     *
+     * @return The number of steps taken
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Sets the number of simulation steps taken, when a Level is restored from a snapshot
+     *
+     * @param ticks The number of steps taken
+     */
+    public void setTicks(long ticks) {
+        this.ticks = ticks;
+    }
+
+    /**
+     * Returns the game time in seconds
+     *
+     * @return The game time in seconds
+     */
+    public double getTime() {
+        return (double) ticks / Constants.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Returns the game time in seconds since a given step.
+     * The difference is taken in steps first so that equal intervals always give equal times.
+     *
+     * @param tick The step to measure from
+     * @return The game time in seconds since the step
+     */
+    public double getSecondsSince(long tick) {
+        return (double) (ticks - tick) / Constants.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Returns the number of simulation steps to take for a frame, consuming the time since the last frame.
+     * At most {@link Constants#MAX_STEPS_PER_FRAME} steps of real time are taken per frame, any more time is dropped.
+     *
+     * @param delta The time in seconds since the last frame
+     * @return The number of steps to take
+     */
+    public int getSteps(float delta) {
+        if (paused) {
+            accumulator = 0;
+            if (stepRequested) {
+                stepRequested = false;
+                return 1;
+            }
+            return 0;
+        }
+        int timeScale = getTimeScale();
+        accumulator += delta * timeScale;
+        int steps = Math.min((int) (accumulator / Constants.STEP), Constants.MAX_STEPS_PER_FRAME * timeScale);
+        accumulator -= steps * Constants.STEP;
+        if (accumulator >= Constants.STEP)
+            accumulator %= Constants.STEP;
+        return steps;
+    }
+
+    /**
+     * Returns how far between the last two simulation steps to draw, from 0 to 1
+     *
+     * @return The fraction of a step left over after the last frame
+     */
+    public float getAlpha() {
+        return accumulator / Constants.STEP;
+    }
+
+    /**
+     * Returns the game time that passed during a frame, for animations that aren't part of the simulation
+     *
+     * @param delta The time in seconds since the last frame
+     * @return The scaled time, 0 if the GameClock is paused
+     */
+    public float getFrameDelta(float delta) {
+        return paused ? 0 : delta * getTimeScale();
+    }
+
+    /**
+     * Returns whether the GameClock is paused
+     *
+     * @return true if the GameClock is paused, false if not
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Sets whether the GameClock is paused
+     *
+     * @param paused Whether the GameClock is paused
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        stepRequested = false;
+    }
+
+    /**
+     * Take a single simulation step on the next frame, if the GameClock is paused
+     */
+    public void step() {
+        if (paused)
+            stepRequested = true;
+    }
+
+    /**
+     * Returns how many times faster than real time the game runs
+     *
+     * @return The time scale
+     */
+    public int getTimeScale() {
+        return TIME_SCALES[timeScaleIndex];
+    }
+
+    /**
+     * Change to the next time scale, going back to real time after the fastest
+     */
+    public void cycleTimeScale() {
+        timeScaleIndex = (timeScaleIndex + 1) % TIME_SCALES.length;
+    }
+}
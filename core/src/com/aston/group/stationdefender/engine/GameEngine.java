@@ -22,6 +22,8 @@ public enum GameEngine {
     private static final OrthographicCamera camera;
     private static final Viewport viewport;
     private static Vector3 mousePosition;
+    private static int renderCalls;
+    private static int lastTotalRenderCalls;
 
     static {
         camera = new OrthographicCamera();
@@ -58,6 +60,8 @@ public enum GameEngine {
      * Render the camera and set the properties for the ShapeRenderer and SpriteBatch
      */
     public static void render() {
+        renderCalls = batch.totalRenderCalls - lastTotalRenderCalls;
+        lastTotalRenderCalls = batch.totalRenderCalls;
         mousePosition.set(Gdx.input.getX(), Gdx.input.getY(), 0);
         mousePosition = camera.unproject(mousePosition);
         Input.setPosition(mousePosition.x, mousePosition.y);
@@ -66,6 +70,15 @@ public enum GameEngine {
         batch.setProjectionMatrix(camera.combined);
     }
 
+    /**
+     * Returns the number of draw calls the SpriteBatch made during the last frame
+     *
+     * @return The number of SpriteBatch draw calls in the last frame
+     */
+    public static int getRenderCalls() {
+        return renderCalls;
+    }
+
     /**
      * Update the camera viewport
      *
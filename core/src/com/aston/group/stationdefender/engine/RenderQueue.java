@@ -0,0 +1,59 @@
+package com.aston.group.stationdefender.engine;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * This enum queues shape overlays while the SpriteBatch is drawing
+ * so they can all be drawn together in their own layer
+ */
+public enum RenderQueue {
+    ;
+    private static final int RECT_SIZE = 8;
+    private static final FloatArray rects = new FloatArray();
+
+    /**
+     * Queue a filled rectangle to be drawn on the next flush
+     *
+     * @param x      The X co-ordinate of the rectangle
+     * @param y      The Y co-ordinate of the rectangle
+     * @param width  The width of the rectangle
+     * @param height The height of the rectangle
+     * @param color  The colour of the rectangle, the alpha is blended
+     */
+    public static void queueRect(float x, float y, float width, float height, Color color) {
+        rects.ensureCapacity(RECT_SIZE);
+        rects.add(x);
+        rects.add(y);
+        rects.add(width);
+        rects.add(height);
+        rects.add(color.r);
+        rects.add(color.g);
+        rects.add(color.b);
+        rects.add(color.a);
+    }
+
+    /**
+     * Draw every queued shape in a single ShapeRenderer pass, then clear the queue
+     */
+    public static void flush() {
+        if (rects.size == 0)
+            return;
+        ShapeRenderer shapeRenderer = GameEngine.getShapeRenderer();
+        float[] items = rects.items;
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shapeRenderer.begin(ShapeType.Filled);
+        for (int i = 0; i < rects.size; i += RECT_SIZE) {
+            shapeRenderer.setColor(items[i + 4], items[i + 5], items[i + 6], items[i + 7]);
+            shapeRenderer.rect(items[i], items[i + 1], items[i + 2], items[i + 3]);
+        }
+        shapeRenderer.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        rects.clear();
+    }
+}
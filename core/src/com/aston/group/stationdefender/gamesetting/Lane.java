@@ -6,21 +6,21 @@ import com.aston.group.stationdefender.actors.helpers.UnitFactory;
 import com.aston.group.stationdefender.callbacks.LaneCallback;
 import com.aston.group.stationdefender.callbacks.UnitCallback;
 import com.aston.group.stationdefender.config.Constants;
-import com.aston.group.stationdefender.gamesetting.helpers.Projectile;
+import com.aston.group.stationdefender.engine.GameClock;
+import com.aston.group.stationdefender.gamesetting.helpers.AdjacencySweep;
+import com.aston.group.stationdefender.gamesetting.helpers.LaneGrid;
 import com.aston.group.stationdefender.gamesetting.helpers.Tile;
 import com.aston.group.stationdefender.gamesetting.items.Item;
 import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
-import com.aston.group.stationdefender.utils.Input;
 import com.aston.group.stationdefender.utils.ProjectileFactory;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input.Buttons;
+import com.aston.group.stationdefender.utils.SeededRandom;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 import java.util.Iterator;
-import java.util.Objects;
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.IntStream;
 
 /**
  * Lane class
@@ -33,11 +33,15 @@ public class Lane implements UnitCallback {
     private final Array<Tile> tiles = new Array<>();
     private final Array<Actor> actors = new Array<>();
     private final Array<Item> itemDrops = new Array<>();
+    private final LaneGrid grid = new LaneGrid();
+    private final AdjacencySweep adjacencySweep = new AdjacencySweep();
+    private final IntArray freeTiles = new IntArray(Constants.TILE_AMOUNT);
     private final ProjectileFactory projectileFactory = new ProjectileFactory();
     private final LaneCallback laneCallback;
+    private final SeededRandom random;
     private boolean cleared;
     private int alienAmount;
-    private long lastRenderTime = System.currentTimeMillis();
+    private long lastSpawnTick;
 
     /**
      * Construct a new Lane
@@ -45,22 +49,24 @@ public class Lane implements UnitCallback {
      * @param laneCallback THe LaneCallback to be used for the Lane
      * @param y            The Y co-ordinate of the Lane
      * @param difficulty   The difficulty of the Level
+     * @param random       The source of randomness for the Lane, split from the Level's
      */
-    Lane(LaneCallback laneCallback, int y, double difficulty) {
+    Lane(LaneCallback laneCallback, int y, double difficulty, SeededRandom random) {
         this.laneCallback = laneCallback;
         this.y = y;
+        this.random = random;
 
         Tile[] tile = new Tile[Constants.TILE_AMOUNT];
-        int tileX = 100;
+        int tileX = Constants.LANE_X;
         int itemTileProbability = 2 * laneCallback.getLevelNumber();
-        int invalidTileProbability = 14 / laneCallback.getLevelNumber();
-        Random rand = new Random();
+        //From Level 15 the probability would round down to 0, so every Tile is left invalid as from Level 8
+        int invalidTileProbability = Math.max(1, 14 / laneCallback.getLevelNumber());
         for (int i = 0; i < Constants.TILE_AMOUNT; i++) {
             tile[i] = new Tile(tileX, y);
 
             // Probability will be 1 / tileProbability
-            tile[i].setHasItem(rand.nextInt(itemTileProbability) == 0);
-            tile[i].setInvalid(rand.nextInt(invalidTileProbability) == 0);
+            tile[i].setHasItem(random.nextInt(itemTileProbability) == 0);
+            tile[i].setInvalid(random.nextInt(invalidTileProbability) == 0);
             tileX += Constants.TILE_WIDTH;
         }
         tiles.addAll(tile);
@@ -77,76 +83,48 @@ public class Lane implements UnitCallback {
      * @return True if the placement was successful, false if the placement was unsuccessful
      */
     boolean place(Actor actor, int x, int y) {
-        for (int i = 0; i < tiles.size; i++) {
-            if (tiles.get(i).isColliding(x, y, 1, 1) && !isTileOccupied(i) && !tiles.get(i).isInvalid()) {
-                actor.setX(tiles.get(i).getCenterX() - (actor.getWidth() / 2));
-                actor.setY(tiles.get(i).getCenterY() - (actor.getHeight() / 2));
-                if (tiles.get(i).isHasItem()) {
-                    Item item = ItemFactory.getRandomItem();
-                    laneCallback.collectItem(item);
-                }
-                actors.add(actor);
-                return true;
+        int i = LaneGrid.getColumn(x);
+        Tile tile = tiles.get(i);
+        if (tile.isColliding(x, y, 1, 1) && !grid.isOccupied(i) && !tile.isInvalid()) {
+            actor.setX(tile.getCenterX() - (actor.getWidth() / 2));
+            actor.setY(tile.getCenterY() - (actor.getHeight() / 2));
+            if (tile.isHasItem()) {
+                Item item = ItemFactory.getRandomItem(random);
+                laneCallback.collectItem(item);
             }
+            if (actor.isUnit())
+                ((Unit) actor).setUnitCallback(this);
+            actors.add(actor);
+            //The grid is only rebuilt on the next step, so the Tile is marked now to refuse a second placement before then
+            grid.add(actor);
+            return true;
         }
         return false;
     }
 
     /**
-     * Check if a Unit is on a tile
+     * Advance the Lane by a single simulation step.
      *
-     * @param tileIndex The index of the Tile to check
-     * @return true if a Unit is on the Tile, false if a Unit is not on the Tile
+     * @param delta - The length of the simulation step in seconds.
      */
-    private boolean isTileOccupied(int tileIndex) {
-        return tiles.get(tileIndex) != null && IntStream.range(0, actors.size).anyMatch(i -> tiles.get(tileIndex).isColliding(actors.get(i)));
-    }
+    public void update(float delta) {
+        //Check if Units are adjacent before they act, so every Unit sees the same adjacency
+        adjacencySweep.update(actors);
 
-    /**
-     * Render the Lane.
-     *
-     * @param delta - The time in seconds since the last render.
-     */
-    public void render(float delta) {
-        for (Tile tile : tiles) {
-            tile.render();
-        }
         //Units
         for (Actor actor : actors) {
-            actor.render(delta);
-            if (actor.isUnit()) {
-                ((Unit) actor).setUnitCallback(this);
-            }
+            actor.update(delta);
         }
 
-        //Check if Units are adjacent. if they are, share the adjacent actor with each other
-        for (int i = 0; i < actors.size; i++) {
-            if (actors.get(i).isUnit()) {
-                Actor actor = actors.get(i);
-                Actor adjacentActor = null;
-                for (int j = 0; j < actors.size; j++) {
-                    if (i != j && actors.get(j).isUnit()) {
-                        Actor temp = actors.get(j);
-                        if (((Unit) actor).isUnitAdjacent(temp)) {
-                            adjacentActor = temp;
-                            break;
-                        }
-                    }
-                }
-
-                if (adjacentActor != null) {
-                    ((Unit) actor).setIsAdjacent(true);
-                } else {
-                    ((Unit) actor).setIsAdjacent(false);
-                }
-                ((Unit) actor).setAdjacentActor(adjacentActor);
-
-                //Check if aliens are near tower
-                if (((Unit) actor).isFacingLeft() && laneCallback.isTowerColliding(actor.getX(), actor.getY(), actor.getWidth(), actor.getHeight())) {
-                    laneCallback.towerTakeDamage(((Unit) actor).getDamage());
-                    ((Unit) actor).destroy();
-                    actors.removeIndex(i);
-                }
+        //Check if aliens are near tower, iterating backwards so that removing doesn't skip an Actor
+        for (int i = actors.size - 1; i >= 0; i--) {
+            Actor actor = actors.get(i);
+            if (actor.isUnit() && ((Unit) actor).isFacingLeft() && laneCallback.isTowerColliding(actor.getX(), actor.getY(), actor.getWidth(), actor.getHeight())) {
+                laneCallback.towerTakeDamage(((Unit) actor).getDamage());
+                ((Unit) actor).destroy();
+                actors.removeIndex(i);
+                laneCallback.onExplosion(actor.getX(), actor.getY());
+                actor.dispose();
             }
         }
 
@@ -156,44 +134,106 @@ public class Lane implements UnitCallback {
             Actor actor = unitsIterator.next();
             if (actor.isUnit()) {
                 if (!actor.getExists()) {
-                    dropItem(ItemFactory.getItemByChance(), actor.getX(), actor.getY());
+                    dropItem(ItemFactory.getItemByChance(random), actor.getX(), actor.getY());
                     unitsIterator.remove();
+                    laneCallback.onExplosion(actor.getX(), actor.getY());
+                    actor.dispose();
                 }
             }
         }
 
         //Spawn New Aliens
-        if (System.currentTimeMillis() - lastRenderTime > 2200 + Math.random() * 3000) {
+        GameClock clock = laneCallback.getClock();
+        if (clock.getSecondsSince(lastSpawnTick) > 2.2 + random.nextDouble() * 3) {
             if (alienAmount > 0) {
-                Actor actor = UnitFactory.getRandomEnemy();
-                if (Objects.equals(actor.getName(), "Mine"))
+                Unit actor = UnitFactory.getRandomEnemy(random);
+                if (actor.getBehaviour().isPlacedOnRandomTile())
                     actor.setX(getRandomTileCenterX() - (actor.getHeight() / 2));
                 else
                     actor.setX(getLastTileCenterX() - (actor.getWidth() / 2));
                 actor.setY(getLastTileCenterY() - (actor.getHeight() / 2));
+                actor.setUnitCallback(this);
                 actors.add(actor);
                 alienAmount--;
             }
-            lastRenderTime = System.currentTimeMillis();
+            lastSpawnTick = clock.getTicks();
         }
 
-        //Draw Projectiles
-        projectileFactory.render(delta);
-        projectileCollision(actors, null);
+        //Move Projectiles, then rebuild the grid once every Unit has moved, spawned or died this step
+        projectileFactory.update(delta);
+        grid.rebuild(actors);
+        projectileCollision();
 
         //Check if lane is cleared
         if (isLaneCleared() && alienAmount <= 0) {
             cleared = true;
         }
+    }
+
+    /**
+     * Render the Lane, interpolating moving objects between the last two simulation steps.
+     * Must be called between the SpriteBatch's begin and end.
+     *
+     * @param alpha - How far between the last two simulation steps to draw, from 0 to 1.
+     */
+    public void render(float alpha) {
+        for (int i = 0; i < tiles.size; i++) {
+            tiles.get(i).setOccupied(grid.isOccupied(i));
+            tiles.get(i).render();
+        }
+
+        //Units
+        for (Actor actor : actors) {
+            actor.render(alpha);
+        }
+
+        //Draw Projectiles
+        projectileFactory.render(alpha);
 
         //Render item drops
+        for (Item item : itemDrops) {
+            item.render();
+        }
+    }
+
+    /**
+     * Collect a dropped Item at the given co-ordinates, if there is one
+     *
+     * @param x The X co-ordinate to collect an Item at
+     * @param y The Y co-ordinate to collect an Item at
+     * @return true if an Item was collected, false if not
+     */
+    boolean collectItemAt(int x, int y) {
         for (int i = 0; i < itemDrops.size; i++) {
-            itemDrops.get(i).render();
-            if (Gdx.input.isButtonPressed(Buttons.RIGHT) && itemDrops.get(i).isJustSpawned() && Input.isColliding(itemDrops.get(i).getX(), itemDrops.get(i).getY(), Item.getWidth(), Item.getHeight())) {
-                laneCallback.collectItem(itemDrops.get(i));
+            Item item = itemDrops.get(i);
+            if (item.isJustSpawned() && item.getX() + Item.getWidth() > x && item.getX() < x && item.getY() + Item.getHeight() > y && item.getY() < y) {
+                laneCallback.collectItem(item);
                 removeItem(i);
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Collect every dropped Item in the Lane
+     */
+    void collectItems() {
+        for (Item item : itemDrops) {
+            laneCallback.collectItem(item);
+        }
+        itemDrops.clear();
+    }
+
+    /**
+     * Render the damage indicators of the Units in the Lane.
+     * Must be called between the SpriteBatch's begin and end, after every effect has been rendered.
+     */
+    void renderIndicators() {
+        for (Actor actor : actors) {
+            if (actor.isUnit())
+                ((Unit) actor).renderIndicators();
+        }
     }
 
     /**
@@ -209,15 +249,22 @@ public class Lane implements UnitCallback {
     }
 
     /**
-     * Returns the X co-ordinate of the center of a random Tile
+     * Returns the X co-ordinate of the center of a random free Tile, other than the first Tile.
+     * If every Tile is occupied, any Tile other than the first is picked.
      *
      * @return The X co-ordinate of the center of a random Tile
      */
     private int getRandomTileCenterX() {
-        if (tiles.size > 0)
-            return tiles.get(ThreadLocalRandom.current().nextInt(1, tiles.size)).getCenterX();
-        else
+        if (tiles.size == 0)
             return 0;
+        freeTiles.clear();
+        for (int i = 1; i < tiles.size; i++) {
+            if (!grid.isOccupied(i))
+                freeTiles.add(i);
+        }
+        if (freeTiles.size == 0)
+            return tiles.get(1 + random.nextInt(tiles.size - 1)).getCenterX();
+        return tiles.get(freeTiles.get(random.nextInt(freeTiles.size))).getCenterX();
     }
 
     /**
@@ -226,13 +273,11 @@ public class Lane implements UnitCallback {
      * @return True if the lane is cleared of Aliens, false if not
      */
     private boolean isLaneCleared() {
-        return IntStream.range(0, actors.size).noneMatch(i -> {
-            if (actors.get(i).isUnit()) {
-                Unit unit = (Unit) actors.get(i);
-                return unit.isFacingLeft();
-            }
-            return false;
-        });
+        for (Actor actor : actors) {
+            if (actor.isUnit() && ((Unit) actor).isFacingLeft())
+                return false;
+        }
+        return true;
     }
 
     /**
@@ -258,8 +303,7 @@ public class Lane implements UnitCallback {
      */
     boolean isColliding(int x, int y) {
         int width = Constants.TILE_AMOUNT * Constants.TILE_WIDTH;
-        int laneX = 100;
-        return x + 1 > laneX && x < laneX + width && y + 1 > this.y && y < this.y + Constants.TILE_HEIGHT;
+        return x + 1 > Constants.LANE_X && x < Constants.LANE_X + width && y + 1 > this.y && y < this.y + Constants.TILE_HEIGHT;
     }
 
     @Override
@@ -267,6 +311,16 @@ public class Lane implements UnitCallback {
         projectileFactory.shootBullet(x, y, speed, damage);
     }
 
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    @Override
+    public GameClock getClock() {
+        return laneCallback.getClock();
+    }
+
     /**
      * Drop an Item on the Lane
      *
@@ -302,6 +356,91 @@ public class Lane implements UnitCallback {
         for (Actor actor : actors) {
             actor.dispose();
         }
+        projectileFactory.dispose();
+    }
+
+    /**
+     * Write the simulation state of the Lane to a snapshot: its random stream, spawn counters, Tiles,
+     * Units, dropped Items and Projectiles
+     *
+     * @param writer The snapshot to write to
+     */
+    void writeSnapshot(SaveWriter writer) {
+        writer.putLong(random.getState());
+        writer.putBoolean(cleared);
+        writer.putInt(alienAmount);
+        writer.putLong(lastSpawnTick);
+        for (Tile tile : tiles) {
+            writer.putBoolean(tile.isHasItem());
+            writer.putBoolean(tile.isInvalid());
+        }
+        int units = 0;
+        for (Actor actor : actors) {
+            if (actor.isUnit())
+                units++;
+        }
+        writer.putInt(units);
+        for (Actor actor : actors) {
+            if (actor.isUnit())
+                ((Unit) actor).writeSnapshot(writer);
+        }
+        writer.putInt(itemDrops.size);
+        for (Item item : itemDrops) {
+            writer.putEnum(item.getSku());
+            writer.putInt(item.getX());
+            writer.putInt(item.getY());
+        }
+        projectileFactory.writeSnapshot(writer);
+    }
+
+    /**
+     * Restore the simulation state of the Lane from a snapshot written by {@link #writeSnapshot(SaveWriter)}.
+     * Must be called on a new Lane, before it is updated.
+     *
+     * @param reader The snapshot to read
+     */
+    void readSnapshot(SaveReader reader) {
+        random.setState(reader.getLong());
+        cleared = reader.getBoolean();
+        alienAmount = reader.getInt();
+        lastSpawnTick = reader.getLong();
+        for (Tile tile : tiles) {
+            tile.setHasItem(reader.getBoolean());
+            tile.setInvalid(reader.getBoolean());
+        }
+        int units = reader.getInt();
+        for (int i = 0; i < units; i++) {
+            Unit unit = Unit.readSnapshot(reader);
+            unit.setUnitCallback(this);
+            actors.add(unit);
+        }
+        grid.rebuild(actors);
+        int items = reader.getInt();
+        ItemFactory[] skus = ItemFactory.values();
+        for (int i = 0; i < items; i++) {
+            dropItem(ItemFactory.getItem(reader.getEnum(skus)), reader.getInt(), reader.getInt());
+        }
+        projectileFactory.readSnapshot(reader);
+    }
+
+    /**
+     * Returns a hash of the simulation state of the Lane
+     *
+     * @return The hash of the Lane's state
+     */
+    int getStateHash() {
+        int hash = alienAmount;
+        hash = 31 * hash + Long.hashCode(lastSpawnTick);
+        for (Actor actor : actors) {
+            hash = 31 * hash + actor.getX();
+            hash = 31 * hash + actor.getY();
+            if (actor.isUnit())
+                hash = 31 * hash + Double.hashCode(((Unit) actor).getHealth());
+        }
+        for (int i = 0; i < projectileFactory.getSize(); i++) {
+            hash = 31 * hash + projectileFactory.getX(i);
+        }
+        return 31 * hash + itemDrops.size;
     }
 
     /**
@@ -314,37 +453,51 @@ public class Lane implements UnitCallback {
     }
 
     /**
-     * Checks if projectiles are colliding with a Unit or an array of Units
-     *
-     * @param actors   The array of Units to cycle through
-     * @param bossUnit The singular boss Unit to check for collisions
+     * Checks if projectiles are colliding with the Units in the Lane or the Tower.
+     * Each Projectile is only checked against the Units in the columns of the LaneGrid that it overlaps.
      */
-    void projectileCollision(Array<Actor> actors, Actor bossUnit) {
-        for (int i = 0; i < projectileFactory.getProjectiles().size; i++) {
-            if (actors != null) {
-                for (int j = 0; j < actors.size; j++) {
-                    if (actors.get(j).isUnit()) {
-                        Actor actor = actors.get(j);
-                        projectileCollisionHelper(projectileFactory.getProjectiles().get(i), actor, false);
-                    }
+    private void projectileCollision() {
+        for (int i = 0; i < projectileFactory.getSize(); i++) {
+            int x = projectileFactory.getX(i);
+            int lastColumn = LaneGrid.getColumn(x + Constants.PROJECTILE_WIDTH - 1);
+            for (int column = LaneGrid.getColumn(x); column <= lastColumn && projectileFactory.isAlive(i); column++) {
+                Array<Actor> columnActors = grid.getActors(column);
+                for (int j = 0; j < columnActors.size && projectileFactory.isAlive(i); j++) {
+                    //Units killed earlier in the pass stay in the grid until the next rebuild
+                    if (columnActors.get(j).getExists())
+                        projectileCollisionHelper(i, columnActors.get(j), false);
                 }
-            } else {
-                projectileCollisionHelper(projectileFactory.getProjectiles().get(i), bossUnit, true);
+            }
+            if (projectileFactory.isAlive(i) && laneCallback.isTowerColliding(x, projectileFactory.getY(i), Constants.PROJECTILE_WIDTH, Constants.PROJECTILE_HEIGHT)) {
+                laneCallback.towerTakeDamage(projectileFactory.getDamage(i));
+                projectileFactory.setDead(i);
             }
         }
     }
 
+    /**
+     * Checks if projectiles are colliding with the boss Unit
+     *
+     * @param bossUnit The singular boss Unit to check for collisions
+     */
+    void projectileCollision(Actor bossUnit) {
+        for (int i = 0; i < projectileFactory.getSize(); i++) {
+            if (projectileFactory.isAlive(i))
+                projectileCollisionHelper(i, bossUnit, true);
+        }
+    }
+
     /**
      * Helper method to avoid duplicate code in projectileCollision()
      *
-     * @param projectile  The Projectile to check for collisions
+     * @param projectile  The index of the Projectile to check for collisions
      * @param actor       The Unit to check for collisions against the Projectile
      * @param isBossEnemy Whether the Unit is a Boss Enemy or not
      */
-    private void projectileCollisionHelper(Projectile projectile, Actor actor, boolean isBossEnemy) {
-        if (projectile.isColliding(actor.getX(), actor.getY(), actor.getWidth(), actor.getHeight())) {
-            projectile.setDead();
-            double damage = projectile.getDamage();
+    private void projectileCollisionHelper(int projectile, Actor actor, boolean isBossEnemy) {
+        if (projectileFactory.isColliding(projectile, actor.getX(), actor.getY(), actor.getWidth(), actor.getHeight())) {
+            projectileFactory.setDead(projectile);
+            double damage = projectileFactory.getDamage(projectile);
             if (((Unit) actor).getHealth() - damage <= 0) {
                 if (isBossEnemy)
                     laneCallback.addMoney(Constants.BOSS_DESTROY_MONEY_REGENERATION);
@@ -355,9 +508,5 @@ public class Lane implements UnitCallback {
             }
             actor.takeDamage(damage);
         }
-        if (laneCallback.isTowerColliding(projectile.getX(), projectile.getY(), Projectile.getWidth(), Projectile.getHeight())) {
-            laneCallback.towerTakeDamage(projectile.getDamage());
-            projectile.setDead();
-        }
     }
 }
\ No newline at end of file
@@ -3,22 +3,26 @@ package com.aston.group.stationdefender.gamesetting;
 import com.aston.group.stationdefender.actors.Actor;
 import com.aston.group.stationdefender.actors.Tower;
 import com.aston.group.stationdefender.actors.Unit;
+import com.aston.group.stationdefender.actors.helpers.ParticleEffectHelper;
 import com.aston.group.stationdefender.actors.helpers.UnitFactory;
 import com.aston.group.stationdefender.callbacks.LaneCallback;
 import com.aston.group.stationdefender.callbacks.LevelCallback;
 import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.engine.GameClock;
 import com.aston.group.stationdefender.engine.GameEngine;
 import com.aston.group.stationdefender.gamesetting.items.Item;
 import com.aston.group.stationdefender.utils.FontManager;
+import com.aston.group.stationdefender.utils.SeededRandom;
 import com.aston.group.stationdefender.utils.TextureManager;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
-
-import java.util.Random;
+import com.badlogic.gdx.utils.IntArray;
 
 /**
  * Level class represents a Level within the game
@@ -26,28 +30,47 @@ import java.util.Random;
  * @author Jonathon Fitch
  */
 public class Level implements LaneCallback {
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final Texture texture;
+    private final TextureManager textureId;
     private final LevelCallback levelCallback;
-    private final BitmapFont font = FontManager.getFont(50);
     private final Array<Lane> lanes = new Array<>();
     private final int levelNumber;
     private final Tower tower = new Tower();
+    private final IntArray explosions = new IntArray();
+    private final SeededRandom random;
+    private final long seed;
+    private final GameClock clock = new GameClock();
     private Actor bossEnemy;
     private boolean isBossCreated, isBossDestroyed;
     private boolean hasWon, hasLost;
+    private boolean winLostNotified;
+    private Texture texture;
 
     /**
-     * Construct a new Level with a given level number.
+     * Construct a new Level with a given level number and a random seed.
      *
      * @param levelCallback The LevelCallBack to be used for the Level
      * @param levelNumber   The number of the Level
      */
     public Level(LevelCallback levelCallback, int levelNumber) {
+        this(levelCallback, levelNumber, System.nanoTime());
+    }
+
+    /**
+     * Construct a new Level with a given level number and seed.
+     * Every random choice in the Level is made from the seed, so two Levels with the same seed
+     * and the same placements play out the same way. Each Lane gets its own stream split from the seed.
+     *
+     * @param levelCallback The LevelCallBack to be used for the Level
+     * @param levelNumber   The number of the Level
+     * @param seed          The seed of the Level's random choices
+     */
+    public Level(LevelCallback levelCallback, int levelNumber, long seed) {
         this.levelNumber = levelNumber;
         this.levelCallback = levelCallback;
+        this.seed = seed;
+        random = new SeededRandom(seed);
         if (levelNumber == 1)
-            texture = TextureManager.loadTexture(TextureManager.BACKGROUND_1);
+            textureId = TextureManager.BACKGROUND_1;
         else {
             TextureManager[] backgroundTextures = {
                     TextureManager.BACKGROUND_1,
@@ -56,34 +79,75 @@ public class Level implements LaneCallback {
                     TextureManager.BACKGROUND_4,
                     TextureManager.BACKGROUND_5
             };
-            int randomTexture = new Random().nextInt(backgroundTextures.length);
-            texture = TextureManager.loadTexture(backgroundTextures[randomTexture]);
+            int randomTexture = random.nextInt(backgroundTextures.length);
+            textureId = backgroundTextures[randomTexture];
         }
         double difficulty = (2 + (levelNumber / 10)) * 3;
 
-        int laneY = 110;
+        int laneY = Constants.LANE_Y;
         for (int i = 0; i < Constants.LANE_AMOUNT; i++) {
-            lanes.add(new Lane(this, laneY, difficulty));
-            laneY += (Constants.TILE_HEIGHT + (Constants.TILE_HEIGHT / 4));
+            lanes.add(new Lane(this, laneY, difficulty, random.split()));
+            laneY += Constants.LANE_SPACING;
         }
     }
 
     /**
-     * Render the Level.
+     * Construct a Level from a snapshot written by {@link #writeSnapshot(SaveWriter)}, continuing exactly where it left off.
+     * The Level is first built from its number and seed, which recreates everything that never changes,
+     * then the state that changes as the Level is played is read over it.
      *
-     * @param delta - The time in seconds since the last render.
+     * @param levelCallback The LevelCallBack to be used for the Level
+     * @param reader        The snapshot to read
      */
-    public void render(float delta) {
-        batch.begin();
-        batch.draw(texture, 0, 0, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
-        font.setColor(Color.BLACK);
-        font.draw(batch, "Level " + levelNumber, (Gdx.graphics.getWidth() / 2) - 84, Gdx.graphics.getHeight() - 25);
-        font.setColor(Color.WHITE);
-        font.draw(batch, "Level " + levelNumber, (Gdx.graphics.getWidth() / 2) - 85, Gdx.graphics.getHeight() - 25);
-        batch.end();
+    public Level(LevelCallback levelCallback, SaveReader reader) {
+        //The number is written before the seed, and arguments are evaluated from left to right
+        this(levelCallback, reader.getInt(), reader.getLong());
+        random.setState(reader.getLong());
+        clock.setTicks(reader.getLong());
+        tower.readSnapshot(reader);
+        isBossCreated = reader.getBoolean();
+        isBossDestroyed = reader.getBoolean();
+        hasWon = reader.getBoolean();
+        hasLost = reader.getBoolean();
+        if (isBossCreated)
+            bossEnemy = Unit.readSnapshot(reader);
+        for (Lane lane : lanes) {
+            lane.readSnapshot(reader);
+        }
+    }
 
+    /**
+     * Write the simulation state of the Level to a snapshot, including every Lane, the Tower and the boss.
+     * Explosions and indicators aren't written as they are only drawn.
+     *
+     * @param writer The snapshot to write to
+     */
+    public void writeSnapshot(SaveWriter writer) {
+        writer.putInt(levelNumber);
+        writer.putLong(seed);
+        writer.putLong(random.getState());
+        writer.putLong(clock.getTicks());
+        tower.writeSnapshot(writer);
+        writer.putBoolean(isBossCreated);
+        writer.putBoolean(isBossDestroyed);
+        writer.putBoolean(hasWon);
+        writer.putBoolean(hasLost);
+        if (isBossCreated)
+            ((Unit) bossEnemy).writeSnapshot(writer);
+        for (Lane lane : lanes) {
+            lane.writeSnapshot(writer);
+        }
+    }
+
+    /**
+     * Advance the Level by a single simulation step.
+     *
+     * @param delta - The length of the simulation step in seconds.
+     */
+    public void update(float delta) {
+        clock.tick();
         for (Lane lane : lanes) {
-            lane.render(delta);
+            lane.update(delta);
             if (!tower.getExists())
                 hasLost = true;
         }
@@ -96,28 +160,136 @@ public class Level implements LaneCallback {
                     hasLost = true;
             } else
                 createBoss();
-            bossEnemy.render(delta);
-            for (Lane lane : lanes) {
-                lane.projectileCollision(null, bossEnemy);
-            }
-            if (tower.isColliding(bossEnemy.getX() - 25, bossEnemy.getY(), bossEnemy.getWidth(), bossEnemy.getHeight())) {
-                towerTakeDamage(((Unit) bossEnemy).getDamage());
-                ((Unit) bossEnemy).destroy();
-                isBossDestroyed = true;
-            }
-            if (((Unit) bossEnemy).getHealth() == 0) {
-                ((Unit) bossEnemy).destroy();
-                isBossDestroyed = true;
-                addMoney(25);
+            if (!isBossDestroyed) {
+                bossEnemy.update(delta);
+                for (Lane lane : lanes) {
+                    lane.projectileCollision(bossEnemy);
+                }
+                if (tower.isColliding(bossEnemy.getX() - 25, bossEnemy.getY(), bossEnemy.getWidth(), bossEnemy.getHeight())) {
+                    towerTakeDamage(((Unit) bossEnemy).getDamage());
+                    ((Unit) bossEnemy).destroy();
+                    isBossDestroyed = true;
+                } else if (((Unit) bossEnemy).getHealth() == 0) {
+                    ((Unit) bossEnemy).destroy();
+                    isBossDestroyed = true;
+                    addMoney(25);
+                }
+                if (isBossDestroyed)
+                    onExplosion(bossEnemy.getX(), bossEnemy.getY());
             }
         }
-        if (hasLost)
-            levelCallback.onWinLost(false);
-        if (hasWon)
-            levelCallback.onWinLost(hasWon);
+        tower.update(delta);
+    }
+
+    /**
+     * Render the Level, interpolating moving objects between the last two simulation steps.
+     * Must be called between the SpriteBatch's begin and end.
+     *
+     * @param delta - The game time in seconds since the last render, 0 while the GameClock is paused.
+     * @param alpha - How far between the last two simulation steps to draw, from 0 to 1.
+     */
+    public void render(float delta, float alpha) {
+        SpriteBatch batch = GameEngine.getBatch();
+        BitmapFont font = FontManager.getFont(50);
+        if (texture == null)
+            texture = TextureManager.loadTexture(textureId);
+        batch.draw(texture, 0, 0, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
+        font.setColor(Color.BLACK);
+        font.draw(batch, "Level " + levelNumber, (Gdx.graphics.getWidth() / 2) - 84, Gdx.graphics.getHeight() - 25);
+        font.setColor(Color.WHITE);
+        font.draw(batch, "Level " + levelNumber, (Gdx.graphics.getWidth() / 2) - 85, Gdx.graphics.getHeight() - 25);
+        if (clock.isPaused())
+            FontManager.getFont(16).draw(batch, "Paused (P to resume, . to step)", (Gdx.graphics.getWidth() / 2) - 110, Gdx.graphics.getHeight() - 85);
+        else if (clock.getTimeScale() > 1)
+            FontManager.getFont(16).draw(batch, "Speed x" + clock.getTimeScale(), (Gdx.graphics.getWidth() / 2) - 35, Gdx.graphics.getHeight() - 85);
+        if (Constants.DEBUG)
+            FontManager.getFont(16).draw(batch, "Draw calls: " + GameEngine.getRenderCalls() + "  Textures: " + TextureManager.getResidentTextureCount()
+                    + " (" + (TextureManager.getResidentTextureBytes() / 1024) + " KB)  Explosions: " + ParticleEffectHelper.getLiveEffectCount()
+                    + " (pool " + ParticleEffectHelper.getPoolHits() + " hits, " + ParticleEffectHelper.getPoolMisses() + " misses)", 10, Gdx.graphics.getHeight() - 10);
+
+        for (Lane lane : lanes) {
+            lane.render(alpha);
+        }
+        if (bossEnemy != null && bossEnemy.getExists())
+            bossEnemy.render(alpha);
+        tower.render(alpha);
+
+        //Explosions are drawn after every sprite so that blending only changes once
+        for (int i = 0; i < explosions.size; i += 2) {
+            ParticleEffectHelper.destroy(explosions.get(i), explosions.get(i + 1));
+        }
+        explosions.clear();
+        ParticleEffectHelper.render(delta, batch);
+
+        //Indicators are drawn last so that the font texture is only bound once
+        for (Lane lane : lanes) {
+            lane.renderIndicators();
+        }
+        if (bossEnemy != null)
+            ((Unit) bossEnemy).renderIndicators();
+        tower.renderIndicators();
+    }
+
+    /**
+     * Notify the LevelCallback once if the Level has been won or lost.
+     * Must be called outside of the SpriteBatch's begin and end as the callback may change screen.
+     */
+    public void checkWinLost() {
+        if (winLostNotified || !(hasWon || hasLost))
+            return;
+        winLostNotified = true;
+        levelCallback.onWinLost(hasWon && !hasLost);
+    }
+
+    /**
+     * Returns whether the Level has been won
+     *
+     * @return true if the boss has been destroyed and the Tower still exists, false if not
+     */
+    public boolean isWon() {
+        return hasWon && !hasLost;
+    }
+
+    /**
+     * Returns whether the Level has been lost
+     *
+     * @return true if the Tower has been destroyed, false if not
+     */
+    public boolean isLost() {
+        return hasLost;
+    }
+
+    /**
+     * Returns the remaining health of the Tower
+     *
+     * @return The health of the Tower
+     */
+    public int getTowerHealth() {
+        return tower.getHealth();
+    }
+
+    /**
+     * Collect a dropped Item at the given co-ordinates, if there is one
+     *
+     * @param x The X co-ordinate to collect an Item at
+     * @param y The Y co-ordinate to collect an Item at
+     * @return true if an Item was collected, false if not
+     */
+    public boolean collectItemAt(int x, int y) {
+        for (Lane lane : lanes) {
+            if (lane.collectItemAt(x, y))
+                return true;
+        }
+        return false;
+    }
 
-        if (tower != null)
-            tower.render(delta);
+    /**
+     * Collect every dropped Item on the Level
+     */
+    public void collectItems() {
+        for (Lane lane : lanes) {
+            lane.collectItems();
+        }
     }
 
     /**
@@ -165,6 +337,10 @@ public class Level implements LaneCallback {
         tower.dispose();
         if (bossEnemy != null)
             bossEnemy.dispose();
+        if (texture != null) {
+            TextureManager.unloadTexture(textureId);
+            texture = null;
+        }
     }
 
     @Override
@@ -179,7 +355,19 @@ public class Level implements LaneCallback {
 
     @Override
     public void towerTakeDamage(double damage) {
+        boolean existed = tower.getExists();
         tower.takeDamage(damage);
+        if (existed && !tower.getExists())
+            onExplosion(tower.getX(), tower.getY());
+    }
+
+    @Override
+    public void onExplosion(int x, int y) {
+        //Only the most recent explosions are kept when the Level isn't being rendered
+        if (explosions.size >= Constants.MAX_PARTICLE_EFFECTS * 2)
+            explosions.removeRange(0, 1);
+        explosions.add(x);
+        explosions.add(y);
     }
 
     @Override
@@ -192,6 +380,47 @@ public class Level implements LaneCallback {
         levelCallback.collectItem(item);
     }
 
+    /**
+     * Returns the seed the Level's random choices are made from
+     *
+     * @return The seed of the Level
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of simulation steps the Level has taken
+     *
+     * @return The number of steps taken
+     */
+    public long getTick() {
+        return clock.getTicks();
+    }
+
+    @Override
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns a hash of the simulation state of the Level, used to check that a replay plays back the same way
+     *
+     * @return The hash of the Level's state
+     */
+    public int getStateHash() {
+        int hash = Long.hashCode(clock.getTicks());
+        hash = 31 * hash + tower.getHealth();
+        for (Lane lane : lanes) {
+            hash = 31 * hash + lane.getStateHash();
+        }
+        if (bossEnemy != null) {
+            hash = 31 * hash + bossEnemy.getX();
+            hash = 31 * hash + Double.hashCode(((Unit) bossEnemy).getHealth());
+        }
+        return hash;
+    }
+
     /**
      * Returns the Level Number
      *
@@ -205,9 +434,9 @@ public class Level implements LaneCallback {
      * Create the Boss Enemy
      */
     private void createBoss() {
-        bossEnemy = UnitFactory.getBossEnemy();
-        bossEnemy.setX(Gdx.graphics.getWidth());
-        bossEnemy.setY(Gdx.graphics.getHeight() / 2 - (bossEnemy.getHeight() / 2));
+        bossEnemy = UnitFactory.getBossEnemy(random);
+        bossEnemy.setX(Constants.SCREEN_WIDTH);
+        bossEnemy.setY(Constants.SCREEN_HEIGHT / 2 - (bossEnemy.getHeight() / 2));
         isBossCreated = true;
     }
 
@@ -13,8 +13,12 @@ import com.aston.group.stationdefender.utils.FontManager;
 import com.aston.group.stationdefender.utils.Input;
 import com.aston.group.stationdefender.utils.hud.Hud;
 import com.aston.group.stationdefender.utils.indicators.IndicatorManager;
+import com.aston.group.stationdefender.utils.replay.ReplayEvent;
+import com.aston.group.stationdefender.utils.replay.ReplayRecorder;
 import com.aston.group.stationdefender.utils.resources.QuickSlot;
 import com.aston.group.stationdefender.utils.resources.StackableInventory;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Buttons;
 import com.badlogic.gdx.Input.Keys;
@@ -34,79 +38,155 @@ import com.badlogic.gdx.utils.Array;
  * @author Mohammed Foysal
  */
 public class Player implements InputProcessor, ItemCallback {
+    private static final int MENU_BUTTON_X = (Constants.SCREEN_WIDTH / 2) + 200;
+    private static final int MENU_BUTTON_Y = Constants.SCREEN_HEIGHT - 80;
+    private static final int MENU_BUTTON_WIDTH = 400;
+    private static final int MENU_BUTTON_HEIGHT = 50;
     private final Array<QuickSlot> quickSlots = new Array<>();
     private final QuickSlotCallback quickSlotCallback;
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final BitmapFont font = FontManager.getFont(16);
-    private final Stage stage = new Stage();
-    private final TextButton menuButton;
     private final IndicatorManager moneyIndicator = new IndicatorManager();
     private final IndicatorManager itemIndicator = new IndicatorManager();
     private final StackableInventory inventory = new StackableInventory();
+    private final ItemStack emptyStack = new ItemStack(ItemFactory.getItem(ItemFactory.UNKNOWN));
     private final PlayerCallback playerCallback;
     private Item currentItem;
     private int score;
     private int money = Constants.START_MONEY;
     private int selectedSlot;
-    private boolean itemsNotLoaded = true;
+    private int targetX, targetY;
+    private Stage stage;
+    private ReplayRecorder replayRecorder;
 
     /**
-     * Construct a new Player
+     * Construct a new Player, loading the Player's score and Items from the last saved Level
      *
      * @param playerCallback The PlayerCallback to use
      */
     public Player(PlayerCallback playerCallback) {
         this.playerCallback = playerCallback;
+        quickSlotCallback = item -> currentItem = item;
+        initQuickSlots();
         FileUtils.loadLevel((score, money, levelNumber, items) -> {
             this.score = score;
-            if (money < 20)
-                this.money += 20;
-            if (items.size >= 4)
-                itemsNotLoaded = false;
-            for (Item item : items) {
-                inventory.addItem(item);
+            this.money = money;
+            for (ItemStack itemStack : items.getItemStacks()) {
+                inventory.addItems(itemStack.getSku(), itemStack.getCount());
             }
         });
-        if (itemsNotLoaded) {
-            for (int i = 0; i < 4; i++) {
-                inventory.addItem(ItemFactory.getItem(ItemFactory.WEAPON));
-            }
+        reset(true);
+    }
+
+    /**
+     * Construct a new Player with a given score, money and Items, for example to replay a Level
+     *
+     * @param playerCallback The PlayerCallback to use
+     * @param score          The score of the Player
+     * @param money          The money of the Player
+     * @param items          The Items in the Player's Inventory
+     */
+    public Player(PlayerCallback playerCallback, int score, int money, StackableInventory items) {
+        this.playerCallback = playerCallback;
+        quickSlotCallback = item -> currentItem = item;
+        this.score = score;
+        this.money = money;
+        for (ItemStack itemStack : items.getItemStacks()) {
+            inventory.addItems(itemStack.getSku(), itemStack.getCount());
+        }
+        initQuickSlots();
+        updateQuickSlots();
+    }
+
+    /**
+     * Construct a Player from a snapshot written by {@link #writeSnapshot(SaveWriter)}
+     *
+     * @param playerCallback The PlayerCallback to use
+     * @param reader         The snapshot to read
+     */
+    public Player(PlayerCallback playerCallback, SaveReader reader) {
+        this.playerCallback = playerCallback;
+        quickSlotCallback = item -> currentItem = item;
+        score = reader.getInt();
+        money = reader.getInt();
+        selectedSlot = reader.getByte();
+        int stackCount = reader.getShort();
+        ItemFactory[] skus = ItemFactory.values();
+        for (int i = 0; i < stackCount; i++) {
+            inventory.addItems(reader.getEnum(skus), reader.getShort());
+        }
+        initQuickSlots();
+        if (selectedSlot >= quickSlots.size)
+            selectedSlot = 0;
+        updateQuickSlots();
+    }
+
+    /**
+     * Write the Player's score, money, selected QuickSlot and Inventory to a snapshot.
+     * Emptied ItemStacks are kept so the QuickSlots don't move.
+     *
+     * @param writer The snapshot to write to
+     */
+    public void writeSnapshot(SaveWriter writer) {
+        writer.putInt(score);
+        writer.putInt(money);
+        writer.putByte(selectedSlot);
+        Array<ItemStack> itemStacks = inventory.getItemStacks();
+        writer.putShort(itemStacks.size);
+        for (ItemStack itemStack : itemStacks) {
+            writer.putEnum(itemStack.getSku());
+            writer.putShort(itemStack.getCount());
         }
+    }
 
-        //Quick Slots
+    /**
+     * Create the empty QuickSlots
+     */
+    private void initQuickSlots() {
         int slotX = 0;
         for (int i = 0; i < 8; i++) {
             QuickSlot quickSlot = new QuickSlot(slotX);
-            quickSlot.setItemStack(new ItemStack(ItemFactory.getItem(ItemFactory.UNKNOWN)));
+            quickSlot.setItemStack(emptyStack);
             quickSlots.add(quickSlot);
             slotX += 48;
         }
-        quickSlotCallback = item -> currentItem = item;
-        if (quickSlots.size > 0)
-            currentItem = quickSlots.get(0).getItem();
-
-        BitmapFont buttonFont = FontManager.getFont(22);
-
-        //Buttons
-        TextButtonStyle textButtonStyle = new TextButtonStyle();
-        textButtonStyle.font = buttonFont;
-        menuButton = new TextButton(Constants.MENU, textButtonStyle);
-        menuButton.setColor(0, 0, 0, 0);
-        menuButton.setWidth(400);
-        menuButton.setHeight(50);
-        stage.addActor(menuButton);
-        menuButton.setPosition((Gdx.graphics.getWidth() / 2) + 200, Gdx.graphics.getHeight() - 80);
-
-        //Initialise Money Indicator
+    }
+
+    /**
+     * Reset the Player for the start of a new Level, the same way a new Player loads the last saved Level.
+     * The Player gets the starting money back, with a bonus if they had less than 20 left,
+     * and is given 4 Weapons if they have fewer than 4 Items.
+     *
+     * @param keepProgress true to keep the score and Items from the last Level, false to start again with nothing
+     */
+    public void reset(boolean keepProgress) {
+        int itemCount = 0;
+        if (keepProgress) {
+            money = money < 20 ? Constants.START_MONEY + 20 : Constants.START_MONEY;
+            inventory.removeEmptyStacks();
+            for (ItemStack itemStack : inventory.getItemStacks()) {
+                itemCount += itemStack.getCount();
+            }
+        } else {
+            score = 0;
+            money = Constants.START_MONEY;
+            inventory.clear();
+        }
+        if (itemCount < 4)
+            inventory.addItems(ItemFactory.WEAPON, 4);
+        selectedSlot = 0;
+        replayRecorder = null;
         updateQuickSlots();
     }
 
     /**
      * Render the Player.
+     * Must be called between the SpriteBatch's begin and end.
      *
      * @param delta - The time in seconds since the last render.
      */
     public void render(float delta) {
+        SpriteBatch batch = GameEngine.getBatch();
+        BitmapFont font = FontManager.getFont(16);
+
         //Render Player's current item (if any)
         if (currentItem != null) {
             currentItem.setX(Input.getX() - (Item.getWidth() / 2));
@@ -116,37 +196,39 @@ public class Player implements InputProcessor, ItemCallback {
 
         //Render Quick Slots
         for (int i = 0; i < quickSlots.size; i++) {
-            if (selectedSlot == i) {
-                quickSlots.get(i).setSelected(true);
-                currentItem = quickSlots.get(i).getItem();
-            } else {
-                quickSlots.get(i).setSelected(false);
-            }
+            quickSlots.get(i).setSelected(selectedSlot == i);
             quickSlots.get(i).render();
         }
 
         //Render Player Stats
-        batch.begin();
-        menuButton.setColor(1, 1, 1, 1);
         font.setColor(Color.BLACK);
         font.draw(batch, "Score: " + score, Gdx.graphics.getWidth() - 99, 60);
         font.draw(batch, "Money: " + money, Gdx.graphics.getWidth() - 99, 30);
         font.setColor(Color.WHITE);
         font.draw(batch, "Score: " + score, Gdx.graphics.getWidth() - 100, 60);
         font.draw(batch, "Money: " + money, Gdx.graphics.getWidth() - 100, 30);
-        batch.end();
 
-        //Draw Money Indicators
-        moneyIndicator.render(delta, Gdx.graphics.getWidth() - 50, 30);
-        itemIndicator.render(delta, Input.getX(), Input.getY());
-
-        //Draw HUD
-        Hud.render(delta);
+        //Draw Money Indicators, which only move while they are shown
+        moneyIndicator.update(delta);
+        itemIndicator.update(delta);
+        moneyIndicator.render(Gdx.graphics.getWidth() - 50, 30);
+        itemIndicator.render(Input.getX(), Input.getY());
+    }
 
-        //Draw Stage
-        batch.begin();
+    /**
+     * Render the Player's Stage.
+     * Must be called outside of the SpriteBatch's begin and end as the Stage uses its own batch.
+     */
+    public void renderStage() {
+        if (stage == null) {
+            TextButtonStyle textButtonStyle = new TextButtonStyle();
+            textButtonStyle.font = FontManager.getFont(22);
+            TextButton menuButton = new TextButton(Constants.MENU, textButtonStyle);
+            menuButton.setBounds(MENU_BUTTON_X, MENU_BUTTON_Y, MENU_BUTTON_WIDTH, MENU_BUTTON_HEIGHT);
+            stage = new Stage();
+            stage.addActor(menuButton);
+        }
         stage.draw();
-        batch.end();
     }
 
     /**
@@ -158,6 +240,8 @@ public class Player implements InputProcessor, ItemCallback {
         }
         moneyIndicator.dispose();
         itemIndicator.dispose();
+        if (stage != null)
+            stage.dispose();
     }
 
     @Override
@@ -167,35 +251,45 @@ public class Player implements InputProcessor, ItemCallback {
 
     @Override
     public boolean keyUp(int keycode) {
+        int slot = selectedSlot;
         switch (keycode) {
+            case Keys.P:
+                playerCallback.onTogglePause();
+                return true;
+            case Keys.F:
+                playerCallback.onCycleTimeScale();
+                return true;
+            case Keys.PERIOD:
+                playerCallback.onStep();
+                return true;
             case Keys.ESCAPE:
                 playerCallback.onPause();
             case Keys.NUM_1:
-                selectedSlot = 0;
+                slot = 0;
                 break;
             case Keys.NUM_2:
-                selectedSlot = 1;
+                slot = 1;
                 break;
             case Keys.NUM_3:
-                selectedSlot = 2;
+                slot = 2;
                 break;
             case Keys.NUM_4:
-                selectedSlot = 3;
+                slot = 3;
                 break;
             case Keys.NUM_5:
-                selectedSlot = 4;
+                slot = 4;
                 break;
             case Keys.NUM_6:
-                selectedSlot = 5;
+                slot = 5;
                 break;
             case Keys.NUM_7:
-                selectedSlot = 6;
+                slot = 6;
                 break;
             case Keys.NUM_8:
-                selectedSlot = 7;
+                slot = 7;
                 break;
         }
-        quickSlotCallback.onSelectedItemChanged(quickSlots.get(selectedSlot).getItem());
+        selectSlot(slot);
         return true;
     }
 
@@ -212,24 +306,19 @@ public class Player implements InputProcessor, ItemCallback {
     @Override
     public boolean touchUp(final int screenX, final int screenY, int pointer, int button) {
         if (button == Buttons.LEFT) {
-            if (Hud.isNotColliding() && currentItem != null) {
-                if (money >= currentItem.getCost()) {
-                    currentItem.useItem(this);
-                } else {
-                    itemIndicator.addIndicator("Not enough money!", Color.RED);
-                }
-            }
+            if (Hud.isNotColliding())
+                useItemAt(Input.getX(), Input.getY());
 
             for (int i = 0; i < quickSlots.size; i++) {
                 QuickSlot quickSlot = quickSlots.get(i);
-                if (Input.isColliding(quickSlot.getX(), QuickSlot.getY(), QuickSlot.getWidth(), QuickSlot.getHeight())) {
-                    selectedSlot = i;
-                    quickSlotCallback.onSelectedItemChanged(quickSlots.get(selectedSlot).getItem());
-                }
+                if (Input.isColliding(quickSlot.getX(), QuickSlot.getY(), QuickSlot.getWidth(), QuickSlot.getHeight()))
+                    selectSlot(i);
             }
-            if (Input.isColliding((int) menuButton.getX(), (int) menuButton.getY(), (int) menuButton.getWidth(), (int) menuButton.getHeight())) {
+            if (Input.isColliding(MENU_BUTTON_X, MENU_BUTTON_Y, MENU_BUTTON_WIDTH, MENU_BUTTON_HEIGHT)) {
                 playerCallback.onPause();
             }
+        } else if (button == Buttons.RIGHT) {
+            collectItemAt(Input.getX(), Input.getY());
         }
         return true;
     }
@@ -246,26 +335,96 @@ public class Player implements InputProcessor, ItemCallback {
 
     @Override
     public boolean scrolled(int amount) {
-        selectedSlot += amount;
-        if (selectedSlot > quickSlots.size - 1)
-            selectedSlot = 0;
-        if (selectedSlot < 0)
-            selectedSlot = quickSlots.size - 1;
-        quickSlotCallback.onSelectedItemChanged(quickSlots.get(selectedSlot).getItem());
+        int slot = selectedSlot + amount;
+        if (slot > quickSlots.size - 1)
+            slot = 0;
+        if (slot < 0)
+            slot = quickSlots.size - 1;
+        selectSlot(slot);
         return true;
     }
 
+    /**
+     * Use the current Item at the given co-ordinates, placing it on the Level if it is placeable
+     *
+     * @param x The X co-ordinate to use the Item at
+     * @param y The Y co-ordinate to use the Item at
+     */
+    public void useItemAt(int x, int y) {
+        if (currentItem == null)
+            return;
+        if (replayRecorder != null)
+            replayRecorder.record(ReplayEvent.USE_ITEM, x, y);
+        if (money >= currentItem.getCost()) {
+            targetX = x;
+            targetY = y;
+            currentItem.useItem(this);
+        } else {
+            itemIndicator.addIndicator("Not enough money!", Color.RED);
+        }
+    }
+
+    /**
+     * Collect a dropped Item on the Level at the given co-ordinates, if there is one
+     *
+     * @param x The X co-ordinate to collect an Item at
+     * @param y The Y co-ordinate to collect an Item at
+     */
+    public void collectItemAt(int x, int y) {
+        if (replayRecorder != null)
+            replayRecorder.record(ReplayEvent.COLLECT_ITEM, x, y);
+        playerCallback.collectItemAt(x, y);
+    }
+
+    /**
+     * Select a QuickSlot, making its Item the current Item
+     *
+     * @param slot The index of the QuickSlot to select
+     */
+    public void selectSlot(int slot) {
+        if (replayRecorder != null)
+            replayRecorder.record(ReplayEvent.SELECT_SLOT, slot, 0);
+        selectedSlot = slot;
+        quickSlotCallback.onSelectedItemChanged(quickSlots.get(selectedSlot).getItem());
+    }
+
+    /**
+     * Sets the ReplayRecorder that the Player's actions are recorded to
+     *
+     * @param replayRecorder The ReplayRecorder to record to, null to stop recording
+     */
+    public void setReplayRecorder(ReplayRecorder replayRecorder) {
+        this.replayRecorder = replayRecorder;
+    }
+
+    /**
+     * Returns a hash of the Player's state that changes whenever the Player's money, score or Items do
+     *
+     * @return The hash of the Player's state
+     */
+    public int getStateHash() {
+        int hash = money;
+        hash = 31 * hash + score;
+        hash = 31 * hash + selectedSlot;
+        for (ItemStack itemStack : inventory.getItemStacks()) {
+            hash = 31 * hash + itemStack.getSku().ordinal();
+            hash = 31 * hash + itemStack.getCount();
+        }
+        return hash;
+    }
+
     /**
      * Updates the QuickSlots with the Items in the Inventory
      */
     private void updateQuickSlots() {
         for (int i = 0; i < quickSlots.size; i++) {
-            if (i < inventory.getItemStacks().size && inventory.getItemStacks().get(i) != null) {
+            if (i < inventory.getItemStacks().size) {
                 quickSlots.get(i).setItemStack(inventory.getItemStacks().get(i));
             } else {
-                quickSlots.get(i).setItemStack(new ItemStack(ItemFactory.getItem(ItemFactory.UNKNOWN)));
+                quickSlots.get(i).setItemStack(emptyStack);
             }
         }
+        currentItem = quickSlots.get(selectedSlot).getItem();
     }
 
     /**
@@ -361,7 +520,7 @@ public class Player implements InputProcessor, ItemCallback {
     @Override
     public void onUse(boolean placeable, int cost, int value, int health) {
         useItemProperties(cost, value, health);
-        if (placeable && playerCallback.placeActor(currentItem.getPlaceableActor(), Input.getX(), Input.getY())) {
+        if (placeable && playerCallback.placeActor(currentItem.getPlaceableActor(), targetX, targetY)) {
             inventory.removeItem(currentItem);
             updateQuickSlots();
         }
@@ -0,0 +1,90 @@
+package com.aston.group.stationdefender.gamesetting.helpers;
+
+import com.aston.group.stationdefender.actors.Actor;
+import com.aston.group.stationdefender.actors.Unit;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Comparator;
+
+/**
+ * AdjacencySweep finds the Unit that each Unit in a Lane is adjacent to.
+ * Units are sorted by their X co-ordinate and swept from left to right, so each Unit is
+ * only compared against the Units that still overlap it rather than every other Unit in the Lane.
+ */
+public class AdjacencySweep {
+    private static final Comparator<Unit> byX = (a, b) -> Integer.compare(a.getX(), b.getX());
+    private final Array<Unit> sorted = new Array<>(false, 16, Unit.class);
+    private final IntArray active = new IntArray(false, 16);
+    private final Array<Unit> nearest = new Array<>(false, 16, Unit.class);
+
+    /**
+     * Set the adjacent Actor of every Unit in a Lane to the nearest overlapping Unit facing the
+     * other way, or null if there is none. Must be called before the Units act.
+     * Units with equal X co-ordinates keep their order in the Lane, so the result is stable between frames.
+     *
+     * @param actors The Actors in the Lane, only Units are checked
+     */
+    public void update(Array<Actor> actors) {
+        sorted.clear();
+        for (Actor actor : actors) {
+            if (actor.isUnit() && actor.getExists())
+                sorted.add((Unit) actor);
+        }
+        sorted.sort(byX);
+
+        nearest.setSize(sorted.size);
+        for (int i = 0; i < sorted.size; i++) {
+            nearest.set(i, null);
+        }
+
+        active.clear();
+        for (int i = 0; i < sorted.size; i++) {
+            Unit unit = sorted.get(i);
+            //Drop the Units that end before this one starts, they can't overlap anything further right
+            for (int j = active.size - 1; j >= 0; j--) {
+                Unit other = sorted.get(active.get(j));
+                if (other.getX() + other.getWidth() <= unit.getX())
+                    active.removeIndex(j);
+            }
+            for (int j = 0; j < active.size; j++) {
+                int otherIndex = active.get(j);
+                Unit other = sorted.get(otherIndex);
+                if (other.isFacingLeft() != unit.isFacingLeft()) {
+                    if (isNearer(unit, other, nearest.get(i)))
+                        nearest.set(i, other);
+                    if (isNearer(other, unit, nearest.get(otherIndex)))
+                        nearest.set(otherIndex, unit);
+                }
+            }
+            active.add(i);
+        }
+
+        for (int i = 0; i < sorted.size; i++) {
+            sorted.get(i).setAdjacentActor(nearest.get(i));
+        }
+    }
+
+    /**
+     * Returns whether a candidate Unit is nearer to a Unit than its current nearest Unit
+     *
+     * @param unit      The Unit to measure from
+     * @param candidate The candidate Unit
+     * @param current   The current nearest Unit, null if there is none
+     * @return true if the candidate is nearer, false if not
+     */
+    private static boolean isNearer(Unit unit, Unit candidate, Unit current) {
+        return current == null || getDistance(unit, candidate) < getDistance(unit, current);
+    }
+
+    /**
+     * Returns twice the distance between the centers of two Units, which avoids rounding the centers
+     *
+     * @param a The first Unit
+     * @param b The second Unit
+     * @return Twice the distance between the centers of the Units
+     */
+    private static int getDistance(Unit a, Unit b) {
+        return Math.abs((a.getX() * 2 + a.getWidth()) - (b.getX() * 2 + b.getWidth()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.aston.group.stationdefender.gamesetting.helpers;
+
+import com.aston.group.stationdefender.actors.Actor;
+import com.aston.group.stationdefender.config.Constants;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/**
+ * LaneGrid is a spatial index of the Units in a Lane.
+ * A Lane is a single row of Tiles, so Units are bucketed by the Tile columns they overlap,
+ * letting collision checks only look at the Units in the same columns as the object being checked.
+ * Anything left or right of the Lane is bucketed into the first or last column.
+ * The LaneGrid also counts how many Units overlap each Tile, so that occupancy is a single lookup.
+ * Units move every step, so rather than tracking each move the Lane rebuilds the LaneGrid once per step,
+ * and only adds Units on their own when they are placed between steps.
+ */
+public class LaneGrid {
+    private final Array<Array<Actor>> columns = new Array<>(Constants.TILE_AMOUNT);
+    private final int[] occupancy = new int[Constants.TILE_AMOUNT];
+
+    /**
+     * Construct a new, empty LaneGrid with a column for each Tile in a Lane
+     */
+    public LaneGrid() {
+        for (int i = 0; i < Constants.TILE_AMOUNT; i++) {
+            columns.add(new Array<>(false, 4));
+        }
+    }
+
+    /**
+     * Returns the index of the column containing a given X co-ordinate
+     *
+     * @param x The X co-ordinate to find the column of
+     * @return The index of the column, clamped to the columns of the Lane
+     */
+    public static int getColumn(int x) {
+        int column = Math.floorDiv(x - Constants.LANE_X, Constants.TILE_WIDTH);
+        if (column < 0)
+            return 0;
+        return Math.min(column, Constants.TILE_AMOUNT - 1);
+    }
+
+    /**
+     * Remove every Unit from the LaneGrid
+     */
+    public void clear() {
+        for (Array<Actor> column : columns) {
+            column.clear();
+        }
+        Arrays.fill(occupancy, 0);
+    }
+
+    /**
+     * Rebuild the LaneGrid from the Units of a Lane, after they have moved
+     *
+     * @param actors The Actors in the Lane, only Units are added
+     */
+    public void rebuild(Array<Actor> actors) {
+        clear();
+        for (Actor actor : actors) {
+            if (actor.isUnit() && actor.getExists())
+                add(actor);
+        }
+    }
+
+    /**
+     * Add a Unit to every column that it overlaps, and mark the Tiles it overlaps as occupied
+     *
+     * @param actor The Unit to add
+     */
+    public void add(Actor actor) {
+        int last = getColumn(actor.getX() + actor.getWidth() - 1);
+        for (int i = getColumn(actor.getX()); i <= last; i++) {
+            columns.get(i).add(actor);
+        }
+        //Unlike the columns, occupancy isn't clamped, so a Unit outside of the Lane doesn't occupy an edge Tile
+        int firstTile = Math.max(Math.floorDiv(actor.getX() - Constants.LANE_X, Constants.TILE_WIDTH), 0);
+        int lastTile = Math.min(Math.floorDiv(actor.getX() + actor.getWidth() - 1 - Constants.LANE_X, Constants.TILE_WIDTH), Constants.TILE_AMOUNT - 1);
+        for (int i = firstTile; i <= lastTile; i++) {
+            occupancy[i]++;
+        }
+    }
+
+    /**
+     * Returns whether any Unit overlaps a given Tile
+     *
+     * @param tileIndex The index of the Tile to check
+     * @return true if a Unit is on the Tile, false if the Tile is free
+     */
+    public boolean isOccupied(int tileIndex) {
+        return occupancy[tileIndex] > 0;
+    }
+
+    /**
+     * Returns the Units overlapping a given column.
+     * A Unit wider than a Tile appears in every column it overlaps.
+     *
+     * @param column The index of the column
+     * @return The Units overlapping the column
+     */
+    public Array<Actor> getActors(int column) {
+        return columns.get(column);
+    }
+}
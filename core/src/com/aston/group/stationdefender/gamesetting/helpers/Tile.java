@@ -3,14 +3,11 @@ package com.aston.group.stationdefender.gamesetting.helpers;
 import com.aston.group.stationdefender.actors.Actor;
 import com.aston.group.stationdefender.config.Constants;
 import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.engine.RenderQueue;
 import com.aston.group.stationdefender.utils.Input;
 import com.aston.group.stationdefender.utils.TextureManager;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Tile class
@@ -19,14 +16,16 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
  * @author Twba Al-shaghdari
  */
 public class Tile {
+    private static final Color INVALID_HOVER_COLOR = new Color(1, 0, 0, 0.35f);
+    private static final Color ITEM_HOVER_COLOR = new Color(0, 1, 0, 0.35f);
+    private static final Color HOVER_COLOR = new Color(1, 1, 1, 0.35f);
     private final int x, y;
     private final int width = Constants.TILE_WIDTH;
     private final int height = Constants.TILE_HEIGHT;
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final Texture texture = TextureManager.loadTexture(TextureManager.TILE);
-    private final ShapeRenderer shapeRenderer = GameEngine.getShapeRenderer();
     private boolean hasItem;
     private boolean invalid;
+    private boolean occupied;
+    private TextureRegion texture;
 
     /**
      * Construct a new Tile with given X and Y co-ordinates
@@ -82,27 +81,22 @@ public class Tile {
     }
 
     /**
-     * Render the Tile.
+     * Render the Tile into the SpriteBatch and queue its hover overlay.
+     * Must be called between the SpriteBatch's begin and end.
      */
     public void render() {
-        batch.begin();
-        batch.draw(texture, x, y, width, height);
-        batch.end();
+        if (texture == null)
+            texture = TextureManager.loadRegion(TextureManager.TILE);
+        GameEngine.getBatch().draw(texture, x, y, width, height);
 
         if (isColliding(Input.getX(), Input.getY(), 1, 1)) {
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-            shapeRenderer.begin(ShapeType.Filled);
-            if (invalid) {
-                shapeRenderer.setColor(255, 0, 0, 0.35f);
+            if (invalid || occupied) {
+                RenderQueue.queueRect(x, y, width, height, INVALID_HOVER_COLOR);
             } else if (hasItem) {
-                shapeRenderer.setColor(0, 255, 0, 0.35f);
+                RenderQueue.queueRect(x, y, width, height, ITEM_HOVER_COLOR);
             } else {
-                shapeRenderer.setColor(222, 222, 222, 0.35f);
+                RenderQueue.queueRect(x, y, width, height, HOVER_COLOR);
             }
-            shapeRenderer.rect(x, y, width, height);
-            shapeRenderer.end();
-            Gdx.gl.glDisable(GL20.GL_BLEND);
         }
     }
 
@@ -110,7 +104,10 @@ public class Tile {
      * Dispose of unused resources
      */
     public void dispose() {
-        texture.dispose();
+        if (texture != null) {
+            TextureManager.unloadRegion(TextureManager.TILE);
+            texture = null;
+        }
     }
 
     /**
@@ -131,6 +128,15 @@ public class Tile {
         this.hasItem = hasItem;
     }
 
+    /**
+     * Sets whether a Unit is on the Tile, so that hovering shows the Tile can't be placed on
+     *
+     * @param occupied The boolean of whether a Unit is on the Tile
+     */
+    public void setOccupied(boolean occupied) {
+        this.occupied = occupied;
+    }
+
     /**
      * Returns whether a Tile can have a weapon placed upon it
      *
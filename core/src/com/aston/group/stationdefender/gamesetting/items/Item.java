@@ -3,12 +3,11 @@ package com.aston.group.stationdefender.gamesetting.items;
 import com.aston.group.stationdefender.actors.Actor;
 import com.aston.group.stationdefender.actors.Weapon;
 import com.aston.group.stationdefender.callbacks.ItemCallback;
-import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.config.UnitArchetype;
 import com.aston.group.stationdefender.engine.GameEngine;
 import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
-import com.aston.group.stationdefender.utils.TextureManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Item class represents an in-game item that the player
@@ -19,36 +18,17 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 public class Item {
     private static final int width = 32;
     private static final int height = 32;
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final String name;
-    private final boolean placeable;
-    private final Texture texture;
-    private final ItemFactory sku;
-    private final int cost;
-    private final int value;
-    private final int health;
+    private final ItemType type;
     private boolean justSpawned;
     private int x, y;
 
     /**
-     * Construct a new Item with a name
+     * Construct a new Item of a given ItemType
      *
-     * @param name      The name of the Item
-     * @param cost      The cost of the Item
-     * @param health    The additional health of the Item
-     * @param value     The money value of the Item
-     * @param texture   The Texture ID to use to get the Item graphic
-     * @param placeable Whether the Item is placeable on a Tile or not
-     * @param sku       The unique SKU of the Item
+     * @param type The ItemType of the Item, shared with every other Item of the same SKU
      */
-    public Item(String name, int cost, int health, int value, TextureManager texture, boolean placeable, ItemFactory sku) {
-        this.name = name;
-        this.cost = cost;
-        this.health = health;
-        this.value = value;
-        this.placeable = placeable;
-        this.sku = sku;
-        this.texture = TextureManager.loadTexture(texture);
+    public Item(ItemType type) {
+        this.type = type;
     }
 
     /**
@@ -70,16 +50,15 @@ public class Item {
     }
 
     /**
-     * Render the Item.
+     * Render the Item and its shadow.
+     * Must be called between the SpriteBatch's begin and end.
      */
     public void render() {
+        TextureRegion texture = getTexture();
         if (texture != null) {
-            batch.begin();
+            SpriteBatch batch = GameEngine.getBatch();
             batch.draw(texture, x + 2, y + 1, width, height);
-            batch.end();
-            batch.begin();
             batch.draw(texture, x, y, width, height);
-            batch.end();
         }
     }
 
@@ -89,7 +68,7 @@ public class Item {
      * @param itemCallback The ItemCallBack associated with the Item
      */
     public void useItem(ItemCallback itemCallback) {
-        itemCallback.onUse(placeable, cost, value, health);
+        itemCallback.onUse(type.isPlaceable(), type.getCost(), type.getValue(), type.getHealth());
     }
 
     /**
@@ -98,16 +77,8 @@ public class Item {
      * @return An Actor that can be placed on the Level, null if the Actor cannot be placed on the Level
      */
     public Actor getPlaceableActor() {
-        switch (sku) {
-            case WEAPON:
-                return new Weapon();
-            case CLOSE_COMBAT_WEAPON:
-                return new Weapon("Close Combat Weapon", 25, 50.0, 2.0, Constants.UNIT_HEALTH, 4.0, 7.0, 2.0, 15, 25, TextureManager.CLOSE_COMBAT_WEAPON);
-            case RAPID_FIRE_WEAPON:
-                return new Weapon("Rapid Fire Weapon", 25, 5.0, 15.0, 10, 10, 0.5, 1.0, 15, 25, TextureManager.RAPID_FIRE_WEAPON);
-            default:
-                return null;
-        }
+        UnitArchetype unit = type.getUnit();
+        return unit != null ? new Weapon(unit) : null;
     }
 
     /**
@@ -116,16 +87,16 @@ public class Item {
      * @return The name of the Item
      */
     public String getName() {
-        return name;
+        return type.getName();
     }
 
     /**
-     * Returns the texture of the Item
+     * Returns the texture of the Item, shared with every other Item of the same SKU
      *
-     * @return The Texture of the Item
+     * @return The TextureRegion of the Item, null if the Item has no texture
      */
-    public Texture getTexture() {
-        return texture;
+    public TextureRegion getTexture() {
+        return type.getTexture();
     }
 
     /**
@@ -186,7 +157,7 @@ public class Item {
      * @return The cost of the Item
      */
     public int getCost() {
-        return cost;
+        return type.getCost();
     }
 
     /**
@@ -195,7 +166,7 @@ public class Item {
      * @return The value of the Item
      */
     public int getValue() {
-        return value;
+        return type.getValue();
     }
 
     /**
@@ -204,7 +175,7 @@ public class Item {
      * @return The health of the Item
      */
     public int getHealth() {
-        return health;
+        return type.getHealth();
     }
 
     /**
@@ -213,6 +184,15 @@ public class Item {
      * @return The unique SKU identifier of the Item
      */
     public ItemFactory getSku() {
-        return sku;
+        return type.getSku();
+    }
+
+    /**
+     * Returns the ItemType of the Item
+     *
+     * @return The ItemType shared by every Item with the same SKU
+     */
+    public ItemType getType() {
+        return type;
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.aston.group.stationdefender.gamesetting.items;
+
+import com.aston.group.stationdefender.config.ItemArchetype;
+import com.aston.group.stationdefender.config.UnitArchetype;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * ItemType is the part of an Item shared by every Item with the same SKU: its stats and its texture.
+ * There is a single ItemType per SKU, handed out by {@link ItemFactory#getItemType(ItemFactory)},
+ * so an Inventory full of Items only loads each texture once. The texture itself is owned by the ItemFactory,
+ * so an ItemType replaced by a reload of the definitions doesn't hold on to a reference of its own.
+ */
+public final class ItemType {
+    private final ItemArchetype archetype;
+    private final ItemFactory sku;
+    private boolean textureLoaded;
+    private TextureRegion texture;
+
+    /**
+     * Construct a new ItemType with the stats of an ItemArchetype
+     *
+     * @param archetype The ItemArchetype to take the stats from
+     * @param sku       The unique SKU of the ItemType
+     */
+    public ItemType(ItemArchetype archetype, ItemFactory sku) {
+        this.archetype = archetype;
+        this.sku = sku;
+    }
+
+    /**
+     * Returns the ItemArchetype the ItemType takes its stats from
+     *
+     * @return The ItemArchetype of the ItemType
+     */
+    public ItemArchetype getArchetype() {
+        return archetype;
+    }
+
+    /**
+     * Returns the unique SKU identifier of the ItemType
+     *
+     * @return The unique SKU identifier of the ItemType
+     */
+    public ItemFactory getSku() {
+        return sku;
+    }
+
+    /**
+     * Returns the name of the ItemType
+     *
+     * @return The name of the ItemType
+     */
+    public String getName() {
+        return archetype.getName();
+    }
+
+    /**
+     * Returns the cost of the ItemType
+     *
+     * @return The cost of the ItemType
+     */
+    public int getCost() {
+        return archetype.getCost();
+    }
+
+    /**
+     * Returns the money value of the ItemType
+     *
+     * @return The value of the ItemType
+     */
+    public int getValue() {
+        return archetype.getValue();
+    }
+
+    /**
+     * Returns the additional health of the ItemType
+     *
+     * @return The health of the ItemType
+     */
+    public int getHealth() {
+        return archetype.getHealth();
+    }
+
+    /**
+     * Returns whether Items of the ItemType are placeable on a Tile or not
+     *
+     * @return true if the ItemType is placeable, false if not
+     */
+    public boolean isPlaceable() {
+        return archetype.isPlaceable();
+    }
+
+    /**
+     * Returns the Weapon that Items of the ItemType place on the Level
+     *
+     * @return The UnitArchetype of the Weapon, null if the ItemType doesn't place a Weapon
+     */
+    public UnitArchetype getUnit() {
+        return archetype.getUnit();
+    }
+
+    /**
+     * Returns the texture of the ItemType, loading it the first time any Item of the ItemType needs it
+     *
+     * @return The TextureRegion of the ItemType, null if the ItemType has no texture
+     */
+    public TextureRegion getTexture() {
+        if (!textureLoaded) {
+            texture = ItemFactory.getTexture(archetype.getTexture());
+            textureLoaded = true;
+        }
+        return texture;
+    }
+}
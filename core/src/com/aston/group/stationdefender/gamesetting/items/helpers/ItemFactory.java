@@ -1,7 +1,16 @@
 package com.aston.group.stationdefender.gamesetting.items.helpers;
 
+import com.aston.group.stationdefender.config.Definitions;
+import com.aston.group.stationdefender.config.ItemArchetype;
 import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.gamesetting.items.ItemType;
 import com.aston.group.stationdefender.utils.TextureManager;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * This class is responsible for handling what Items are created
@@ -21,6 +30,9 @@ public enum ItemFactory {
     WOOD_BLOCK,*/
     UNKNOWN;
 
+    private static final AtomicReferenceArray<ItemType> itemTypes = new AtomicReferenceArray<>(values().length);
+    private static final Map<TextureManager, TextureRegion> textures = new EnumMap<>(TextureManager.class);
+
     /**
      * Returns a new Item from the given list
      *
@@ -28,58 +40,89 @@ public enum ItemFactory {
      * @return The new Item to be placed within a Lane
      */
     public static Item getItem(ItemFactory itemFactory) {
-        Item item = null;
-        switch (itemFactory) {
-            case CREDIT:
-                item = new Item("Credits", 0, 0, 10, TextureManager.ITEM_CREDIT, true, CREDIT);
-                break;
-            case WEAPON:
-                item = new Item("Weapon", 10, 0, 0, TextureManager.WEAPON, true, WEAPON);
-                break;
-            case CLOSE_COMBAT_WEAPON:
-                item = new Item("Close Combat Weapon", 15, 0, 0, TextureManager.CLOSE_COMBAT_WEAPON, true, CLOSE_COMBAT_WEAPON);
-                break;
-            case RAPID_FIRE_WEAPON:
-                item = new Item("Rapid Fire Weapon", 15, 0, 0, TextureManager.RAPID_FIRE_WEAPON, true, RAPID_FIRE_WEAPON);
-                break;
-            case HEALTH:
-                item = new Item("Health", 3, 25, 0, TextureManager.ITEM_HEALTH, true, HEALTH);
-                break;
-            /*case BANDAGES:
-                item = new Item("Bandages", 3, 5, 0, TextureManager.ITEM_BANDAGES, true, BANDAGES);
-            case BRICKS:
-                item = new Item("Bricks", 5, 0, 0, TextureManager.ITEM_BRICKS, true, BRICKS);
-            case CEMENT:
-                item = new Item("Cement", 8, 0, 0, TextureManager.ITEM_CEMENT, true, CEMENT);
-            case WATER:
-                item = new Item("Water", 3, 0, 0, TextureManager.ITEM_WATER, true, WATER);
-            case WOOD_BLOCK:
-                item = new Item("Wooden Blocks", 3, 0, 0, TextureManager.ITEM_WOOD, true, WOOD_BLOCK);*/
-            case UNKNOWN:
-                return new Item("Empty", 0, 0, 0, TextureManager.UNKNOWN, false, UNKNOWN);
+        return new Item(getItemType(itemFactory));
+    }
+
+    /**
+     * Returns the ItemType shared by every Item of a given SKU, creating it the first time it is needed.
+     * A new ItemType is created if the definitions have been reloaded, Items that already exist keep the old one.
+     * The cached ItemType is read without locking, as Items are created on every thread that runs a Level.
+     *
+     * @param itemFactory The SKU of the ItemType
+     * @return The ItemType of the SKU
+     */
+    public static ItemType getItemType(ItemFactory itemFactory) {
+        ItemArchetype archetype = Definitions.getItem(itemFactory);
+        ItemType itemType = itemTypes.get(itemFactory.ordinal());
+        if (itemType != null && itemType.getArchetype() == archetype)
+            return itemType;
+        return createItemType(itemFactory, archetype);
+    }
+
+    /**
+     * Create the ItemType of a SKU, unless another thread created it while waiting for the lock
+     *
+     * @param itemFactory The SKU of the ItemType
+     * @param archetype   The definition of the SKU that the ItemType must use
+     * @return The ItemType of the SKU
+     */
+    private static synchronized ItemType createItemType(ItemFactory itemFactory, ItemArchetype archetype) {
+        ItemType itemType = itemTypes.get(itemFactory.ordinal());
+        if (itemType == null || itemType.getArchetype() != archetype) {
+            itemType = new ItemType(archetype, itemFactory);
+            itemTypes.set(itemFactory.ordinal(), itemType);
+        }
+        return itemType;
+    }
+
+    /**
+     * Returns the texture of an ItemType, loading it the first time any ItemType needs it.
+     * The texture is shared by every ItemType that uses it, including ItemTypes replaced by a reload of the
+     * definitions, so only a single reference to it is held until {@link #dispose()}.
+     *
+     * @param textureId The ID of the texture
+     * @return The TextureRegion of the texture, null if the ID has no texture
+     */
+    public static synchronized TextureRegion getTexture(TextureManager textureId) {
+        if (!textures.containsKey(textureId))
+            textures.put(textureId, TextureManager.loadRegion(textureId));
+        return textures.get(textureId);
+    }
+
+    /**
+     * Dispose of the textures of every ItemType
+     */
+    public static synchronized void dispose() {
+        for (TextureManager textureId : textures.keySet()) {
+            TextureManager.unloadRegion(textureId);
+        }
+        textures.clear();
+        for (int i = 0; i < itemTypes.length(); i++) {
+            itemTypes.set(i, null);
         }
-        return item;
     }
 
     /**
      * Returns a new Item at random
      *
+     * @param random The source of randomness to pick the Item with
      * @return The new Item to be placed within a Lane
      */
-    public static Item getRandomItem() {
-        int rand = (int) (Math.random() * (values().length));
+    public static Item getRandomItem(Random random) {
+        int rand = random.nextInt(values().length);
         return getItem(values()[rand]);
     }
 
     /**
      * Return either a new Item or null at random
      *
+     * @param random The source of randomness to pick the Item with
      * @return A new Item at random or null if no Item is to be returned
      */
-    public static Item getItemByChance() {
-        int rand = (int) (Math.random() * 100);
+    public static Item getItemByChance(Random random) {
+        int rand = random.nextInt(100);
         if (rand <= 35) {
-            return getRandomItem();
+            return getRandomItem(random);
         } else {
             return null;
         }
@@ -7,23 +7,19 @@ import com.aston.group.stationdefender.utils.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.Array;
-
-import java.util.Iterator;
 
 /**
- * This class allows the Items to be stacked into a QuickSlot Inventory
+ * This class allows the Items to be stacked into a QuickSlot Inventory.
+ * Every Item of the same SKU is the same apart from its position, so an ItemStack holds a single Item
+ * and a count rather than every Item that has been added to it.
  *
  * @author Mohammed Foysal
  */
-public class ItemStack implements Iterable<Item> {
-    private static final int maxItems = 64;
+public class ItemStack {
     private static final int width = 32;
     private static final int height = 32;
-    private final Array<Item> items = new Array<>();
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final BitmapFont font = FontManager.getFont(16);
-    private final String itemName;
+    private final Item item;
+    private int count;
     private int x, y;
 
     /**
@@ -32,34 +28,42 @@ public class ItemStack implements Iterable<Item> {
      * @param item The specific Item to add to the ItemStack
      */
     public ItemStack(Item item) {
-        itemName = item.getName();
-        addItem(item);
+        this(item, 1);
     }
 
     /**
-     * Adds an item to the ItemStack
+     * Construct a new ItemStack holding a number of a specific Item
      *
-     * @param item The Item to add to the ItemStack
+     * @param item  The specific Item the ItemStack holds
+     * @param count The number of the Item in the ItemStack
+     */
+    public ItemStack(Item item, int count) {
+        this.item = item;
+        this.count = count;
+    }
+
+    /**
+     * Adds an item to the ItemStack
      */
-    public void addItem(Item item) {
-        if (items.size < maxItems)
-            items.add(item);
+    public void addItem() {
+        count++;
     }
 
     /**
-     * Remove an Item from the ItemStack
+     * Adds a number of items to the ItemStack
      *
-     * @param item The Item to remove from the Stack
+     * @param count The number of items to add to the ItemStack
      */
-    public void removeItem(Item item) {
-        Iterator<Item> iterator = items.iterator();
-        while (iterator.hasNext()) {
-            Item chosenItem = iterator.next();
-            if (chosenItem != null && chosenItem.getName().equals(item.getName())) {
-                iterator.remove();
-                return;
-            }
-        }
+    public void addItems(int count) {
+        this.count += count;
+    }
+
+    /**
+     * Remove an Item from the ItemStack, if it isn't empty
+     */
+    public void removeItem() {
+        if (count > 0)
+            count--;
     }
 
     /**
@@ -68,32 +72,38 @@ public class ItemStack implements Iterable<Item> {
      * @return The Item if it is in the ItemStack, null if it is not
      */
     public Item getItem() {
-        if (items.size != 0)
-            return items.get(items.size - 1);
-        else
-            return null;
+        return count > 0 ? item : null;
     }
 
     /**
-     * Return the Name of the Item the ItemStack holds
+     * Returns the SKU of the Item the ItemStack holds
      *
-     * @return The name of the Item the ItemStack holds
+     * @return The SKU of the Item the ItemStack holds
      */
-    public String getItemName() {
-        return itemName;
+    public ItemFactory getSku() {
+        return item.getSku();
     }
 
     /**
-     * Render the ItemStack
+     * Returns the number of Items in the ItemStack
+     *
+     * @return The number of Items in the ItemStack
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Render the ItemStack.
+     * Must be called between the SpriteBatch's begin and end.
      */
     public void render() {
-        if (items.size != 0 && items.get(0).getTexture() != null) {
-            batch.begin();
-            batch.draw((items.get(0)).getTexture(), x, y, width, height);
-            batch.end();
-            batch.begin();
-            font.draw(batch, Integer.toString(items.size), x + 20, y + 10);
-            batch.end();
+        SpriteBatch batch = GameEngine.getBatch();
+        BitmapFont font = FontManager.getFont(16);
+        if (count != 0 && item.getTexture() != null) {
+            batch.draw(item.getTexture(), x, y, width, height);
+            font.setColor(Color.WHITE);
+            font.draw(batch, Integer.toString(count), x + 20, y + 10);
         }
 
         if (isColliding(Input.getX(), Input.getY())) {
@@ -103,12 +113,10 @@ public class ItemStack implements Iterable<Item> {
             } else {
                 name = getItem().getName();
             }
-            batch.begin();
             font.setColor(Color.BLACK);
             font.draw(batch, name, x - 10, y + height + 19);
             font.setColor(Color.WHITE);
             font.draw(batch, name, x - 10, y + height + 20);
-            batch.end();
         }
     }
 
@@ -130,20 +138,6 @@ public class ItemStack implements Iterable<Item> {
         this.y = y;
     }
 
-    @Override
-    public Iterator<Item> iterator() {
-        return items.iterator();
-    }
-
-    /**
-     * Returns whether the ItemStack is full or not
-     *
-     * @return Whether the ItemStack is full or not
-     */
-    public boolean isFull() {
-        return items.size >= maxItems;
-    }
-
     /**
      * Checks whether the params collides with the QuickSlot box
      *
@@ -1,16 +1,26 @@
 package com.aston.group.stationdefender.screens;
 
 import com.aston.group.stationdefender.actors.Actor;
+import com.aston.group.stationdefender.actors.helpers.ParticleEffectHelper;
 import com.aston.group.stationdefender.callbacks.GameCallback;
 import com.aston.group.stationdefender.callbacks.LevelCallback;
 import com.aston.group.stationdefender.callbacks.PlayerCallback;
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.engine.GameClock;
 import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.engine.RenderQueue;
 import com.aston.group.stationdefender.gamesetting.Level;
 import com.aston.group.stationdefender.gamesetting.Player;
 import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.utils.FileUtils;
+import com.aston.group.stationdefender.utils.hud.Hud;
+import com.aston.group.stationdefender.utils.replay.ReplayRecorder;
+import com.aston.group.stationdefender.utils.save.SaveReader;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /**
  * This screen holds the main game loop
@@ -18,9 +28,11 @@ import com.badlogic.gdx.graphics.GL20;
  * @author Mohammad Foysal
  */
 public class GameScreen implements Screen, PlayerCallback, LevelCallback {
-    private final Player player = new Player(this);
+    private final SpriteBatch batch = GameEngine.getBatch();
+    private final Player player;
     private final GameCallback gameCallback;
-    private final Level level;
+    private Level level;
+    private ReplayRecorder replayRecorder;
 
     /**
      * Create a new GameScreen with a specified GameCallBack and LevelNumber
@@ -30,7 +42,49 @@ public class GameScreen implements Screen, PlayerCallback, LevelCallback {
      */
     public GameScreen(final GameCallback gameCallback, int levelNumber) {
         this.gameCallback = gameCallback;
+        player = new Player(this);
+        startLevel(levelNumber);
+    }
+
+    /**
+     * Create a GameScreen that resumes a Level from a snapshot saved by {@link #pause()}.
+     * A resumed Level isn't recorded, as its replay would have to start from the snapshot rather than the seed.
+     *
+     * @param gameCallback The GameCallBAck to be used for the GameScreen
+     * @param snapshot     The snapshot to resume from
+     */
+    public GameScreen(final GameCallback gameCallback, SaveReader snapshot) {
+        this.gameCallback = gameCallback;
+        level = new Level(this, snapshot);
+        player = new Player(this, snapshot);
+    }
+
+    /**
+     * Replace the current Level with a new one, keeping the GameScreen and its Player
+     *
+     * @param levelNumber  The number of the new Level
+     * @param keepProgress true to keep the Player's score and Items from the current Level, false to start again
+     */
+    public void reset(int levelNumber, boolean keepProgress) {
+        saveReplay();
+        level.dispose();
+        ParticleEffectHelper.clear();
+        player.reset(keepProgress);
+        startLevel(levelNumber);
+    }
+
+    /**
+     * Create the Level and start recording its replay
+     *
+     * @param levelNumber The number of the Level
+     */
+    private void startLevel(int levelNumber) {
         level = new Level(this, levelNumber);
+        replayRecorder = null;
+        if (ReplayRecorder.isEnabled()) {
+            replayRecorder = new ReplayRecorder(level, player);
+            player.setReplayRecorder(replayRecorder);
+        }
     }
 
     @Override
@@ -43,8 +97,32 @@ public class GameScreen implements Screen, PlayerCallback, LevelCallback {
         Gdx.gl.glClearColor(1, 1, 1, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         GameEngine.render();
-        level.render(delta);
+
+        //Step the simulation at a fixed rate, scaled and paused by the Level's GameClock
+        GameClock clock = level.getClock();
+        int steps = clock.getSteps(delta);
+        for (int i = 0; i < steps; i++) {
+            level.update(Constants.STEP);
+            if (replayRecorder != null)
+                replayRecorder.tick(ReplayRecorder.getStateHash(level, player));
+        }
+
+        //World layer
+        batch.begin();
+        level.render(clock.getFrameDelta(delta), clock.getAlpha());
+        batch.end();
+
+        //Overlay layer
+        RenderQueue.flush();
+
+        //HUD layer
+        batch.begin();
         player.render(delta);
+        batch.end();
+        Hud.render(delta);
+        player.renderStage();
+
+        level.checkWinLost();
     }
 
     @Override
@@ -52,8 +130,19 @@ public class GameScreen implements Screen, PlayerCallback, LevelCallback {
         GameEngine.update(width, height);
     }
 
+    /**
+     * Save a snapshot of the Level when the game is paused by the system, for example when an Android app
+     * is sent to the background, so the Level can be resumed even if the process is killed
+     */
     @Override
     public void pause() {
+        if (level.isWon() || level.isLost())
+            return;
+        try {
+            FileUtils.saveSnapshot(level, player);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Failed to save a snapshot", e);
+        }
     }
 
     @Override
@@ -66,12 +155,15 @@ public class GameScreen implements Screen, PlayerCallback, LevelCallback {
 
     @Override
     public void dispose() {
+        saveReplay();
         level.dispose();
         player.dispose();
+        ParticleEffectHelper.clear();
     }
 
     @Override
     public void onWinLost(boolean won) {
+        saveReplay();
         gameCallback.onWinLost(player.getInventory(), won, player.getScore(), player.getMoney());
     }
 
@@ -104,4 +196,47 @@ public class GameScreen implements Screen, PlayerCallback, LevelCallback {
     public void addHealth(int health) {
         level.towerAddHealth(health);
     }
+
+    @Override
+    public boolean collectItemAt(int x, int y) {
+        return level.collectItemAt(x, y);
+    }
+
+    @Override
+    public void onTogglePause() {
+        GameClock clock = level.getClock();
+        clock.setPaused(!clock.isPaused());
+    }
+
+    @Override
+    public void onCycleTimeScale() {
+        level.getClock().cycleTimeScale();
+    }
+
+    @Override
+    public void onStep() {
+        level.getClock().step();
+    }
+
+    /**
+     * Returns the number of the Level being played
+     *
+     * @return The number of the Level
+     */
+    public int getLevelNumber() {
+        return level.getLevelNumber();
+    }
+
+    /**
+     * Save the replay of the Level in the background, replacing the last replay of the same Level number,
+     * and stop recording, so that a Level that is won or lost and then reset is only saved once
+     */
+    private void saveReplay() {
+        if (replayRecorder == null)
+            return;
+        if (replayRecorder.getTicks() > 0)
+            replayRecorder.save(Gdx.files.local("replays/level-" + level.getLevelNumber() + ".replay"));
+        replayRecorder = null;
+        player.setReplayRecorder(null);
+    }
 }
\ No newline at end of file
@@ -163,7 +163,5 @@ public class IntroScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        font.dispose();
-        batch.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.aston.group.stationdefender.screens;
+
+import com.aston.group.stationdefender.callbacks.LoadingCallback;
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.utils.AssetLoader;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+
+/**
+ * LoadingScreen is shown at startup while every asset is loaded by the AssetLoader,
+ * loading a little more each frame and showing a progress bar.
+ * It doesn't use any assets itself, so it can be shown straight away.
+ */
+public class LoadingScreen implements Screen {
+    private static final int BAR_WIDTH = 600;
+    private static final int BAR_HEIGHT = 20;
+    private final LoadingCallback loadingCallback;
+    private boolean loaded;
+
+    /**
+     * Construct a new LoadingScreen
+     *
+     * @param loadingCallback The LoadingCallback to use
+     */
+    public LoadingScreen(LoadingCallback loadingCallback) {
+        this.loadingCallback = loadingCallback;
+    }
+
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void render(float delta) {
+        if (!loaded && AssetLoader.update()) {
+            loaded = true;
+            loadingCallback.onLoaded();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        GameEngine.render();
+        ShapeRenderer shapeRenderer = GameEngine.getShapeRenderer();
+        int x = (Constants.SCREEN_WIDTH - BAR_WIDTH) / 2;
+        int y = (Constants.SCREEN_HEIGHT - BAR_HEIGHT) / 2;
+        shapeRenderer.begin(ShapeType.Filled);
+        shapeRenderer.setColor(Constants.primaryDarkColor);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(Color.WHITE);
+        shapeRenderer.rect(x, y, BAR_WIDTH * AssetLoader.getProgress(), BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        GameEngine.update(width, height);
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -121,7 +121,6 @@ public class MenuScreen implements Screen {
 
     @Override
     public void dispose() {
-        font.dispose();
-        batch.dispose();
+        stage.dispose();
     }
 }
\ No newline at end of file
@@ -42,10 +42,10 @@ public class TwoTextScreen implements Screen {
     private final BitmapFont titleFont = FontManager.getFont(50);
     private final BitmapFont bodyFont = FontManager.getFont(30);
     private final TextButton backButton;
-    private final boolean continueBool;
+    private final TextButton continueButton;
     private final Label titleLabel;
     private final Label bodyLabel;
-    private TextButton continueButton;
+    private boolean continueBool;
     private float fadeElapsed;
     private String title;
     private String body;
@@ -59,7 +59,6 @@ public class TwoTextScreen implements Screen {
      *                        False if the continue button should not be displayed.
      */
     public TwoTextScreen(TwoTextCallback twoTextCallback, boolean continueBool) {
-        this.continueBool = continueBool;
         BitmapFont buttonFont = FontManager.getFont(18);
 
         Group background = new Group();
@@ -92,15 +91,15 @@ public class TwoTextScreen implements Screen {
         backButton.setColor(0, 0, 0, 0);
         backButton.setWidth(400);
         backButton.setHeight(50);
-        if (continueBool) {
-            textButtonStyle.font = bodyFont;
-            continueButton = new TextButton(Constants.CONTINUE, textButtonStyle);
-            continueButton.setColor(0, 0, 0, 0);
-            continueButton.setWidth(400);
-            continueButton.setHeight(50);
-            stage.addActor(continueButton);
-            continueButton.setPosition((Gdx.graphics.getWidth() / 2) - 210, (Gdx.graphics.getHeight() / 2) - 175);
-        }
+        TextButtonStyle continueButtonStyle = new TextButtonStyle();
+        continueButtonStyle.font = bodyFont;
+        continueButton = new TextButton(Constants.CONTINUE, continueButtonStyle);
+        continueButton.setColor(0, 0, 0, 0);
+        continueButton.setWidth(400);
+        continueButton.setHeight(50);
+        stage.addActor(continueButton);
+        continueButton.setPosition((Gdx.graphics.getWidth() / 2) - 210, (Gdx.graphics.getHeight() / 2) - 175);
+        setContinueVisible(continueBool);
         stage.addActor(backButton);
         EventListener buttonListener = new ChangeListener() {
             @Override
@@ -114,10 +113,7 @@ public class TwoTextScreen implements Screen {
         };
         backButton.addListener(buttonListener);
         backButton.setPosition(-150, (Gdx.graphics.getHeight()) - 60);
-        if (continueBool)
-            continueButton.addListener(buttonListener);
-
-
+        continueButton.addListener(buttonListener);
     }
 
     @Override
@@ -174,19 +170,17 @@ public class TwoTextScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        bodyFont.dispose();
-        titleFont.dispose();
-        batch.dispose();
     }
 
     /**
-     * Sets the text of the screen title
+     * Sets the text of the screen title, fading the text in again
      *
      * @param title The String to set as the title.
      */
     public void setTitle(String title) {
         this.title = title;
         titleLabel.setText(title);
+        fadeElapsed = 0;
     }
 
     /**
@@ -199,6 +193,17 @@ public class TwoTextScreen implements Screen {
         bodyLabel.setText(body);
     }
 
+    /**
+     * Sets whether the continue button is displayed, so the screen can be reused
+     *
+     * @param continueBool True if the continue button should be displayed.
+     *                     False if the continue button should not be displayed.
+     */
+    public void setContinueVisible(boolean continueBool) {
+        this.continueBool = continueBool;
+        continueButton.setVisible(continueBool);
+    }
+
     /**
      * Restart the batch to allow objects to be drawn over the stage.
      */
@@ -0,0 +1,151 @@
+package com.aston.group.stationdefender.utils;
+
+import com.aston.group.stationdefender.config.Constants;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * This enum owns the AssetManager that every texture, font, sound and particle effect of the game is loaded through.
+ * At startup every asset is queued and loaded a little at a time by {@link #update()} behind the LoadingScreen,
+ * so the managers only have to pull handles that are already loaded. Queued assets stay loaded until
+ * {@link #dispose()}, even once the managers release them, so later Levels never wait on them.
+ * An asset that is needed before it has been loaded, or that was never queued, is loaded straight away
+ * instead, and only those on-demand assets are unloaded when they are released.
+ */
+public enum AssetLoader {
+    ;
+
+    private static final ObjectSet<String> requested = new ObjectSet<>();
+    private static final ObjectSet<String> preloaded = new ObjectSet<>();
+    private static AssetManager assetManager;
+
+    /**
+     * Returns the AssetManager, creating it the first time it is needed
+     *
+     * @return The AssetManager of the game
+     */
+    private static AssetManager getAssetManager() {
+        if (assetManager == null) {
+            FileHandleResolver resolver = new InternalFileHandleResolver();
+            assetManager = new AssetManager(resolver);
+            assetManager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+            assetManager.setLoader(BitmapFont.class, ".ttf", new FreetypeFontLoader(resolver));
+        }
+        return assetManager;
+    }
+
+    /**
+     * Queue every asset of the game to be loaded by {@link #update()}
+     */
+    public static void queueAll() {
+        TextureManager.queueAssets();
+        FontManager.queueAssets();
+        SoundManager.queueAssets();
+    }
+
+    /**
+     * Queue an asset to be loaded by {@link #update()}, keeping it loaded until {@link #dispose()}
+     *
+     * @param path      The internal path of the asset, or its name for fonts generated from a TrueType font
+     * @param type      The type of the asset
+     * @param parameter How to load the asset, null to use the defaults
+     * @param <T>       The type of the asset
+     */
+    static <T> void queue(String path, Class<T> type, AssetLoaderParameters<T> parameter) {
+        preloaded.add(path);
+        load(path, type, parameter);
+    }
+
+    /**
+     * Ask the AssetManager to load an asset, unless it has already been asked to
+     *
+     * @param path      The internal path of the asset, or its name for fonts generated from a TrueType font
+     * @param type      The type of the asset
+     * @param parameter How to load the asset, null to use the defaults
+     * @param <T>       The type of the asset
+     */
+    private static <T> void load(String path, Class<T> type, AssetLoaderParameters<T> parameter) {
+        if (requested.add(path))
+            getAssetManager().load(path, type, parameter);
+    }
+
+    /**
+     * Load queued assets for at most {@link Constants#ASSET_LOADING_BUDGET} milliseconds. Should be called once per frame.
+     *
+     * @return true if every queued asset has been loaded, false if there are assets left
+     */
+    public static boolean update() {
+        return getAssetManager().update(Constants.ASSET_LOADING_BUDGET);
+    }
+
+    /**
+     * Returns how much of the queue has been loaded
+     *
+     * @return The progress of the queue, from 0 to 1
+     */
+    public static float getProgress() {
+        return getAssetManager().getProgress();
+    }
+
+    /**
+     * Returns the number of assets that have been loaded
+     *
+     * @return The number of loaded assets
+     */
+    public static int getLoadedAssets() {
+        return getAssetManager().getLoadedAssets();
+    }
+
+    /**
+     * Returns a loaded asset, loading it straight away if it hasn't been loaded yet
+     *
+     * @param path      The internal path of the asset, or its name for fonts generated from a TrueType font
+     * @param type      The type of the asset
+     * @param parameter How to load the asset if it hasn't been loaded, null to use the defaults
+     * @param <T>       The type of the asset
+     * @return The loaded asset, owned by the AssetManager
+     */
+    static <T> T get(String path, Class<T> type, AssetLoaderParameters<T> parameter) {
+        AssetManager assetManager = getAssetManager();
+        if (!assetManager.isLoaded(path, type)) {
+            if (Constants.DEBUG)
+                Gdx.app.debug("AssetLoader", "Loading " + path + " on demand");
+            load(path, type, parameter);
+            assetManager.finishLoadingAsset(path);
+        }
+        return assetManager.get(path, type);
+    }
+
+    /**
+     * Release an asset that is no longer used. Assets loaded on demand are disposed of,
+     * while queued assets stay loaded until {@link #dispose()}.
+     *
+     * @param path The internal path of the asset, or its name for fonts generated from a TrueType font
+     */
+    static void unload(String path) {
+        if (assetManager != null && !preloaded.contains(path) && assetManager.isLoaded(path)) {
+            assetManager.unload(path);
+            requested.remove(path);
+        }
+    }
+
+    /**
+     * Dispose of the AssetManager and every asset it has loaded
+     */
+    public static void dispose() {
+        if (assetManager != null) {
+            assetManager.dispose();
+            assetManager = null;
+        }
+        requested.clear();
+        preloaded.clear();
+    }
+}
@@ -2,25 +2,40 @@ package com.aston.group.stationdefender.utils;
 
 import com.aston.group.stationdefender.callbacks.LevelInfoCallback;
 import com.aston.group.stationdefender.config.Constants;
-import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.gamesetting.Level;
+import com.aston.group.stationdefender.gamesetting.Player;
 import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemStack;
 import com.aston.group.stationdefender.utils.resources.StackableInventory;
+import com.aston.group.stationdefender.utils.save.AutosaveService;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 /**
- * FileUtils class is responsible for reading the configuration JSON files
+ * FileUtils class is responsible for saving and loading the Player's progress.
+ * Progress is saved to a binary save file in local storage, see {@link SaveWriter}, which is written
+ * in the background by the {@link AutosaveService}. Loading waits for any save still being written.
+ * Games saved by older versions as JSON in the Preferences are still loaded, and are moved to the save file.
  *
  * @author Mohammed Foysal
  */
 public enum FileUtils {
     ;
 
+    private static final String SAVE_PATH = "saves/level.sav";
+    private static final String SNAPSHOT_PATH = "saves/snapshot.sav";
+    private static final int LEVEL_CHUNK = 1;
+    private static final int PLAYER_CHUNK = 2;
+    private static final int SNAPSHOT_CHUNK = 3;
+
     /**
      * Save the Player's Level information
      *
@@ -30,40 +45,87 @@ public enum FileUtils {
      * @param inventory   The Inventory the Player had
      */
     public static void saveLevel(int score, int money, int levelNumber, StackableInventory inventory) {
-        JsonObject playerObject = new JsonObject();
-        playerObject.addProperty("score", score);
-        playerObject.addProperty("money", money);
+        SaveWriter writer = new SaveWriter();
+        writer.beginChunk(LEVEL_CHUNK);
+        writer.putInt(levelNumber);
 
-        JsonArray items = new JsonArray();
-        for (int i = 0; i < inventory.getItemStacks().size; i++) {
-            if (inventory.getItemStacks().get(i).getItem() != null) {
-                JsonObject stackObject = new JsonObject();
-                stackObject.addProperty("name", inventory.getItemStacks().get(i).getItem().getName());
-                stackObject.addProperty("sku", inventory.getItemStacks().get(i).getItem().getSku().toString());
-                items.add(stackObject);
+        writer.beginChunk(PLAYER_CHUNK);
+        writer.putInt(score);
+        writer.putInt(money);
+        Array<ItemStack> itemStacks = inventory.getItemStacks();
+        int stackCount = 0;
+        for (ItemStack itemStack : itemStacks) {
+            if (itemStack.getCount() > 0)
+                stackCount++;
+        }
+        writer.putShort(stackCount);
+        for (ItemStack itemStack : itemStacks) {
+            if (itemStack.getCount() > 0) {
+                writer.putByte(itemStack.getSku().ordinal());
+                writer.putShort(itemStack.getCount());
             }
         }
-        playerObject.add("items", items);
+        AutosaveService.save(Gdx.files.local(SAVE_PATH), writer);
+    }
 
-        JsonObject levelObject = new JsonObject();
-        levelObject.addProperty("number", levelNumber);
-        JsonObject dataObject = new JsonObject();
-        dataObject.add("level", levelObject);
-        dataObject.add("player", playerObject);
+    /**
+     * Load the Player's Level information.
+     * Nothing is loaded if there is no save, or if the save is damaged.
+     *
+     * @param levelInfoCallback The LevelInfoCallback to use
+     */
+    public static void loadLevel(LevelInfoCallback levelInfoCallback) {
+        SaveReader reader;
+        try {
+            AutosaveService.finish();
+            reader = SaveReader.load(Gdx.files.local(SAVE_PATH));
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("FileUtils", "Failed to load " + SAVE_PATH, e);
+            return;
+        }
+        if (reader == null) {
+            migrateLevel(levelInfoCallback);
+            return;
+        }
 
-        Preferences prefs = Gdx.app.getPreferences(Constants.prefs);
-        prefs.putString("level", dataObject.toString());
-        prefs.flush();
+        int levelNumber = 1;
+        int score = 0;
+        int money = 0;
+        StackableInventory items = new StackableInventory();
+        ItemFactory[] skus = ItemFactory.values();
+        int tag;
+        while ((tag = reader.nextChunk()) != -1) {
+            switch (tag) {
+                case LEVEL_CHUNK:
+                    levelNumber = reader.getInt();
+                    break;
+                case PLAYER_CHUNK:
+                    score = reader.getInt();
+                    money = reader.getInt();
+                    int stackCount = reader.getShort();
+                    for (int i = 0; i < stackCount; i++) {
+                        int sku = reader.getByte();
+                        int count = reader.getShort();
+                        if (sku < skus.length)
+                            items.addItems(skus[sku], count);
+                    }
+                    break;
+            }
+        }
+        levelInfoCallback.onLoaded(score, money, levelNumber, items);
     }
 
     /**
-     * Load the Player's Level information
+     * Load a game saved as JSON in the Preferences by an older version,
+     * moving it to the save file so the Preferences are only read once.
      *
      * @param levelInfoCallback The LevelInfoCallback to use
      */
-    public static void loadLevel(LevelInfoCallback levelInfoCallback) {
-        Gson gson = new Gson();
+    private static void migrateLevel(LevelInfoCallback levelInfoCallback) {
         Preferences prefs = Gdx.app.getPreferences(Constants.prefs);
+        if (!prefs.contains("level"))
+            return;
+        Gson gson = new Gson();
         JsonElement element = gson.fromJson(prefs.getString("level", ""), JsonElement.class);
 
         if (element != null && !element.isJsonNull() && element.isJsonObject()) {
@@ -73,24 +135,73 @@ public enum FileUtils {
             int levelNumber = levelObject.get("number").getAsInt();
             int money = playerObject.get("money").getAsInt();
             int score = playerObject.get("score").getAsInt();
-            Array<Item> items = new Array<>();
+            StackableInventory items = new StackableInventory();
             JsonArray jsonItems = playerObject.get("items").getAsJsonArray();
             for (int i = 0; i < jsonItems.size(); i++) {
                 JsonObject itemObject = jsonItems.get(i).getAsJsonObject();
                 String skuText = itemObject.get("sku").getAsString();
                 ItemFactory sku = ItemFactory.valueOf(skuText);
-                Item item = ItemFactory.getItem(sku);
-                items.add(item);
+                //Saves from before Items were counted have one object per Item
+                int count = itemObject.has("count") ? itemObject.get("count").getAsInt() : 1;
+                items.addItems(sku, count);
             }
 
+            saveLevel(score, money, levelNumber, items);
             levelInfoCallback.onLoaded(score, money, levelNumber, items);
         }
+        prefs.remove("level");
+        prefs.flush();
+    }
+
+    /**
+     * Save a snapshot of a Level being played and its Player, so that the Level can be resumed exactly where it was
+     *
+     * @param level  The Level being played
+     * @param player The Player playing the Level
+     */
+    public static void saveSnapshot(Level level, Player player) {
+        SaveWriter writer = new SaveWriter();
+        writer.beginChunk(SNAPSHOT_CHUNK);
+        level.writeSnapshot(writer);
+        player.writeSnapshot(writer);
+        AutosaveService.save(Gdx.files.local(SNAPSHOT_PATH), writer);
+    }
+
+    /**
+     * Load the snapshot of the Level that was being played, if there is one.
+     * The Level is read from the snapshot first, then the Player.
+     *
+     * @return The snapshot to read the Level and Player from, or null if there is no snapshot or it is damaged
+     */
+    public static SaveReader loadSnapshot() {
+        try {
+            AutosaveService.finish();
+            SaveReader reader = SaveReader.load(Gdx.files.local(SNAPSHOT_PATH));
+            if (reader != null) {
+                int tag;
+                while ((tag = reader.nextChunk()) != -1) {
+                    if (tag == SNAPSHOT_CHUNK)
+                        return reader;
+                }
+            }
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("FileUtils", "Failed to load " + SNAPSHOT_PATH, e);
+        }
+        return null;
+    }
+
+    /**
+     * Remove the snapshot of the Level that was being played
+     */
+    public static void deleteSnapshot() {
+        AutosaveService.delete(Gdx.files.local(SNAPSHOT_PATH));
     }
 
     /**
-     * Remove the Level information of the Player
+     * Remove the Level information of the Player. The snapshot of the Level being played is kept.
      */
     public static void deleteLevelInfo() {
+        AutosaveService.delete(Gdx.files.local(SAVE_PATH));
         Gdx.app.getPreferences(Constants.prefs).clear();
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,8 @@ package com.aston.group.stationdefender.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader.FreeTypeFontLoaderParameter;
+import com.badlogic.gdx.utils.IntMap;
 
 /**
  * This enum manages fonts for the game
@@ -12,22 +12,82 @@ import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFont
  */
 public enum FontManager {
     ;
-    private static final FreeTypeFontGenerator fontGenerator;
-    private static final FreeTypeFontParameter params;
+    public static final String FONT_PATH = "fonts/Roboto-Regular.ttf";
+    public static final int[] SIZES = {16, 18, 22, 30, 50};
+    private static final IntMap<BitmapFont> fonts = new IntMap<>();
 
-    static {
-        fontGenerator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/Roboto-Regular.ttf"));
-        params = new FreeTypeFontParameter();
+    /**
+     * Returns the shared BitmapFont with a specified size, from the pre-baked font if there is one.
+     * The font is loaded by the {@link AssetLoader}, and is only loaded here if it hasn't been already.
+     * The font must not be disposed by the caller, see {@link #dispose()}.
+     *
+     * @param size The size of the font
+     * @return The shared BitmapFont of the given size
+     */
+    public static BitmapFont getFont(int size) {
+        BitmapFont font = fonts.get(size);
+        if (font == null) {
+            font = AssetLoader.get(getAssetName(size), BitmapFont.class, getLoaderParameter(size));
+            fonts.put(size, font);
+        }
+        return font;
     }
 
     /**
-     * Returns a new BitmapFont with a specified size
+     * Returns the name the font of a specified size is loaded under by the {@link AssetLoader}:
+     * the path of the pre-baked font if there is one, otherwise a name for the font generated at that size
      *
      * @param size The size of the font
-     * @return The new BitmapFont generated
+     * @return The name of the font's asset
      */
-    public static BitmapFont getFont(int size) {
-        params.size = size;
-        return fontGenerator.generateFont(params);
+    private static String getAssetName(int size) {
+        String bakedFont = getBakedFontPath(size);
+        if (Gdx.files.internal(bakedFont).exists())
+            return bakedFont;
+        return FONT_PATH.substring(0, FONT_PATH.lastIndexOf('.')) + "-" + size + ".ttf";
+    }
+
+    /**
+     * Returns how to load the font of a specified size
+     *
+     * @param size The size of the font
+     * @return The loader parameter of the font, null for a pre-baked font
+     */
+    private static FreeTypeFontLoaderParameter getLoaderParameter(int size) {
+        if (!getAssetName(size).endsWith(".ttf"))
+            return null;
+        FreeTypeFontLoaderParameter parameter = new FreeTypeFontLoaderParameter();
+        parameter.fontFileName = FONT_PATH;
+        parameter.fontParameters.size = size;
+        return parameter;
+    }
+
+    /**
+     * Queue the font of every size in {@link #SIZES} to be loaded by the {@link AssetLoader}
+     */
+    static void queueAssets() {
+        for (int size : SIZES) {
+            AssetLoader.queue(getAssetName(size), BitmapFont.class, getLoaderParameter(size));
+        }
+    }
+
+    /**
+     * Returns the internal path of the pre-baked font of a specified size
+     *
+     * @param size The size of the font
+     * @return The internal path of the pre-baked .fnt file
+     */
+    public static String getBakedFontPath(int size) {
+        return FONT_PATH.substring(0, FONT_PATH.lastIndexOf('.')) + "-" + size + ".fnt";
+    }
+
+    /**
+     * Dispose of every font
+     */
+    public static void dispose() {
+        for (IntMap.Keys keys = fonts.keys(); keys.hasNext; ) {
+            AssetLoader.unload(getAssetName(keys.next()));
+        }
+        fonts.clear();
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,34 @@
 package com.aston.group.stationdefender.utils;
 
-import com.aston.group.stationdefender.gamesetting.helpers.Projectile;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.utils.save.SaveReader;
+import com.aston.group.stationdefender.utils.save.SaveWriter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
- * ProjectileFactory is the controller class for projectiles that can be fired
+ * ProjectileFactory is the controller class for projectiles that can be fired.
+ * Projectiles are stored as parallel primitive arrays indexed from 0 to {@link #getSize()} - 1, rather than
+ * as one object per Projectile, so shooting doesn't allocate once the arrays have grown to fit and
+ * every Projectile is drawn with a single call to the SpriteBatch.
+ * Dead Projectiles are removed by moving the last Projectile into their place, so indices change on every update.
  *
  * @author Mohammed Foysal
  */
 public class ProjectileFactory {
-    private final Pool<Projectile> projectilePool = new Pool<Projectile>() {
-        @Override
-        protected Projectile newObject() {
-            return new Projectile();
-        }
-    };
-    private final Array<Projectile> projectiles = new Array<>();
+    private static final int VERTICES_PER_SPRITE = 20;
+    private int size;
+    private int[] x = new int[64];
+    private int[] prevX = new int[64];
+    private int[] y = new int[64];
+    private double[] speed = new double[64];
+    private double[] damage = new double[64];
+    private boolean[] alive = new boolean[64];
+    private float[] vertices;
+    private TextureRegion texture;
 
     /**
      * Shoots a bullet
@@ -29,40 +39,236 @@ public class ProjectileFactory {
      * @param damage The damage of the bullet
      */
     public void shootBullet(int x, int y, double speed, double damage) {
-        Projectile projectile = projectilePool.obtain();
-        projectile.init(x, y, speed, damage);
-        projectiles.add(projectile);
+        if (size == this.x.length)
+            grow();
+        this.x[size] = x;
+        prevX[size] = x;
+        this.y[size] = y;
+        this.speed[size] = speed;
+        this.damage[size] = damage;
+        alive[size] = true;
+        size++;
         SoundManager.playSound(SoundManager.GUN_SHOT);
     }
 
     /**
-     * Render the Projectiles.
+     * Double the capacity of the arrays
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+    }
+
+    /**
+     * Move the Projectiles by a single simulation step, removing any that are no longer alive.
      *
-     * @param delta - The time in seconds since the last render.
+     * @param delta - The length of the simulation step in seconds.
      */
-    public void render(float delta) {
-        for (Projectile projectile : projectiles) {
-            projectile.render(delta);
+    public void update(float delta) {
+        for (int i = 0; i < size; i++) {
+            prevX[i] = x[i];
+            x[i] += Math.round(speed[i] * delta * 60);
+            if (x[i] > Constants.SCREEN_WIDTH + 1 || x[i] < -10)
+                alive[i] = false;
         }
 
-        //Remove Dead Projectiles
-        Iterator<Projectile> projectileIterator = projectiles.iterator();
-        while (projectileIterator.hasNext()) {
-            Projectile projectile = projectileIterator.next();
-
-            if (!projectile.isAlive()) {
-                projectileIterator.remove();
-                projectilePool.free(projectile);
+        //Remove Dead Projectiles, moving the last Projectile into each gap
+        int i = 0;
+        while (i < size) {
+            if (alive[i]) {
+                i++;
+                continue;
             }
+            size--;
+            x[i] = x[size];
+            prevX[i] = prevX[size];
+            y[i] = y[size];
+            speed[i] = speed[size];
+            damage[i] = damage[size];
+            alive[i] = alive[size];
+        }
+    }
+
+    /**
+     * Render the Projectiles with a single draw, interpolating them between the last two simulation steps.
+     * Must be called between the SpriteBatch's begin and end.
+     *
+     * @param alpha - How far between the last two simulation steps to draw, from 0 to 1.
+     */
+    public void render(float alpha) {
+        if (size == 0)
+            return;
+        if (texture == null)
+            texture = TextureManager.loadRegion(TextureManager.PROJECTILE);
+        if (vertices == null || vertices.length < size * VERTICES_PER_SPRITE)
+            vertices = new float[x.length * VERTICES_PER_SPRITE];
+
+        SpriteBatch batch = GameEngine.getBatch();
+        float color = batch.getPackedColor();
+        float u = texture.getU(), v = texture.getV(), u2 = texture.getU2(), v2 = texture.getV2();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!alive[i])
+                continue;
+            float left = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float right = left + Constants.PROJECTILE_WIDTH;
+            float bottom = y[i];
+            float top = bottom + Constants.PROJECTILE_HEIGHT;
+            count = putVertex(count, left, bottom, color, u, v2);
+            count = putVertex(count, left, top, color, u, v);
+            count = putVertex(count, right, top, color, u2, v);
+            count = putVertex(count, right, bottom, color, u2, v2);
+        }
+        if (count > 0)
+            batch.draw(texture.getTexture(), vertices, 0, count);
+    }
+
+    /**
+     * Write a single vertex of a Projectile's sprite, in the layout used by the SpriteBatch
+     *
+     * @param offset The offset of the vertex in the vertices
+     * @param x      The X co-ordinate of the vertex
+     * @param y      The Y co-ordinate of the vertex
+     * @param color  The packed colour of the vertex
+     * @param u      The U texture co-ordinate of the vertex
+     * @param v      The V texture co-ordinate of the vertex
+     * @return The offset of the next vertex
+     */
+    private int putVertex(int offset, float x, float y, float color, float u, float v) {
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = color;
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+        return offset + 5;
+    }
+
+    /**
+     * Returns the number of Projectiles, including any that have died since the last update
+     *
+     * @return The number of Projectiles
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the X co-ordinate of a Projectile
+     *
+     * @param index The index of the Projectile
+     * @return The X co-ordinate of the Projectile
+     */
+    public int getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns the Y co-ordinate of a Projectile
+     *
+     * @param index The index of the Projectile
+     * @return The Y co-ordinate of the Projectile
+     */
+    public int getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns the damage of a Projectile
+     *
+     * @param index The index of the Projectile
+     * @return The damage of the Projectile
+     */
+    public double getDamage(int index) {
+        return damage[index];
+    }
+
+    /**
+     * Returns whether a Projectile is alive or not
+     *
+     * @param index The index of the Projectile
+     * @return true if the Projectile is alive, false if the Projectile is not alive
+     */
+    public boolean isAlive(int index) {
+        return alive[index];
+    }
+
+    /**
+     * Set a Projectile as dead, it is removed on the next update
+     *
+     * @param index The index of the Projectile
+     */
+    public void setDead(int index) {
+        alive[index] = false;
+    }
+
+    /**
+     * Check if an objects X &amp; Y co-ordinates or width &amp; height
+     * overlaps a Projectile's X &amp; Y co-ordinates, or width &amp; height
+     *
+     * @param index  The index of the Projectile
+     * @param x      The X co-ordinate of the object to check
+     * @param y      The Y co-ordinate of the object to check
+     * @param width  The width of the object to check
+     * @param height The height of the object to check
+     * @return true if the values overlap, false if the values do not overlap
+     */
+    public boolean isColliding(int index, int x, int y, int width, int height) {
+        return x + width > this.x[index] && x < this.x[index] + Constants.PROJECTILE_WIDTH
+                && y + height > this.y[index] && y < this.y[index] + Constants.PROJECTILE_HEIGHT;
+    }
+
+    /**
+     * Write every Projectile to a snapshot
+     *
+     * @param writer The snapshot to write to
+     */
+    public void writeSnapshot(SaveWriter writer) {
+        writer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            writer.putInt(x[i]);
+            writer.putInt(prevX[i]);
+            writer.putInt(y[i]);
+            writer.putDouble(speed[i]);
+            writer.putDouble(damage[i]);
+            writer.putBoolean(alive[i]);
         }
     }
 
     /**
-     * Returns the projectiles currently in the projectiles array
+     * Replace the Projectiles with the ones in a snapshot written by {@link #writeSnapshot(SaveWriter)}
      *
-     * @return The Array or Projectiles
+     * @param reader The snapshot to read
+     */
+    public void readSnapshot(SaveReader reader) {
+        size = 0;
+        int count = reader.getInt();
+        while (x.length < count) {
+            grow();
+        }
+        for (int i = 0; i < count; i++) {
+            x[i] = reader.getInt();
+            prevX[i] = reader.getInt();
+            y[i] = reader.getInt();
+            speed[i] = reader.getDouble();
+            damage[i] = reader.getDouble();
+            alive[i] = reader.getBoolean();
+        }
+        size = count;
+    }
+
+    /**
+     * Dispose of the Projectile texture
      */
-    public Array<Projectile> getProjectiles() {
-        return projectiles;
+    public void dispose() {
+        if (texture != null) {
+            TextureManager.unloadRegion(TextureManager.PROJECTILE);
+            texture = null;
+        }
+        size = 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.aston.group.stationdefender.utils;
+
+import java.util.Random;
+
+/**
+ * SeededRandom is a fast, seedable and splittable source of randomness for the simulation.
+ * It uses the SplitMix64 generator, so unlike java.util.Random it keeps a plain long as state
+ * rather than an atomic one, and a Level can split off an independent stream for each Lane
+ * so that the Lanes don't depend on the order they draw numbers in.
+ * A SeededRandom must only be used by one thread at a time.
+ */
+public class SeededRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private long state;
+
+    /**
+     * Construct a new SeededRandom with a given seed
+     *
+     * @param seed The seed of the SeededRandom
+     */
+    public SeededRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Returns a new SeededRandom whose numbers are independent of this SeededRandom's.
+     * Splitting advances this SeededRandom, so the same sequence of splits always gives the same streams.
+     *
+     * @return The new SeededRandom
+     */
+    public SeededRandom split() {
+        return new SeededRandom(nextLong());
+    }
+
+    /**
+     * Returns the state of the SeededRandom, so that it can be saved in a snapshot
+     *
+     * @return The state of the SeededRandom
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state of the SeededRandom, continuing the stream from where it was when the state was returned
+     *
+     * @param state The state returned by {@link #getState()}
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        //Called by the constructor of Random, before the fields of this class are initialised
+        state = seed;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        long z = state;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,41 +1,169 @@
 package com.aston.group.stationdefender.utils;
 
-import com.badlogic.gdx.Gdx;
+import com.aston.group.stationdefender.config.Constants;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
- * This enum manages sound playing for the game
+ * This enum manages sound playing for the game.
+ * Background music is streamed, while short effects are loaded once as Sounds and
+ * shared between every caller.
  *
  * @author Mohammed Foysal
  */
 public enum SoundManager {
-    BACKGROUND_MUSIC,
-    GUN_SHOT,
-    EXPLOSION;
+    BACKGROUND_MUSIC("sounds/Background_Music.ogg", 0.1f, true),
+    GUN_SHOT("sounds/Gun_Shot.mp3", 0.2f, false),
+    EXPLOSION("sounds/Explosion.mp3", 0.2f, false),
+    LASER_BLAST("sounds/Laser_Blasts.mp3", 0.2f, false);
+
+    private static final Map<SoundManager, Sound> sounds = new EnumMap<>(SoundManager.class);
+    private static final int[] pending = new int[values().length];
+    private static final long[][] voices = new long[values().length][Constants.MAX_SOUND_VOICES];
+    private static final int[] nextVoice = new int[values().length];
+    private static Music music;
+    private static boolean coalescing = Constants.COALESCE_SOUNDS;
+    private static boolean muted;
+    private final String path;
+    private final float volume;
+    private final boolean streamed;
+
+    /**
+     * Construct a new SoundManager ID for a given internal file path
+     *
+     * @param path     The internal path of the sound
+     * @param volume   The volume the sound is played at, from 0 to 1
+     * @param streamed Whether the sound is streamed as Music rather than loaded into memory
+     */
+    SoundManager(String path, float volume, boolean streamed) {
+        this.path = path;
+        this.volume = volume;
+        this.streamed = streamed;
+    }
 
     /**
-     * Play the sound matching a given Enum value
+     * Play the sound matching a given Enum value.
+     * When coalescing is enabled, effects are queued and played by {@link #update()}
+     * so that repeated requests within the same frame become a single, louder playback.
      *
      * @param soundManager The Enum value of the sound to play
      */
     public static void playSound(SoundManager soundManager) {
-        Music music = null;
-        float volume = 0.2f;
-        switch (soundManager) {
-            case BACKGROUND_MUSIC:
-                music = Gdx.audio.newMusic(Gdx.files.internal("sounds/Background_Music.ogg"));
-                music.setLooping(true);
-                volume = 0.1f;
-                break;
-            case GUN_SHOT:
-                music = Gdx.audio.newMusic(Gdx.files.internal("sounds/Gun_Shot.mp3"));
-                break;
-            case EXPLOSION:
-                music = Gdx.audio.newMusic(Gdx.files.internal("sounds/Explosion.mp3"));
-                break;
+        if (muted)
+            return;
+        if (soundManager.streamed) {
+            playMusic(soundManager);
+        } else if (coalescing) {
+            pending[soundManager.ordinal()]++;
+        } else {
+            playVoice(soundManager, soundManager.volume);
+        }
+    }
+
+    /**
+     * Play every effect queued since the last frame. Should be called once per frame.
+     */
+    public static void update() {
+        for (SoundManager soundManager : values()) {
+            int count = pending[soundManager.ordinal()];
+            if (count == 0)
+                continue;
+            pending[soundManager.ordinal()] = 0;
+            float volume = soundManager.volume * (1 + Constants.SOUND_COALESCE_GAIN * (count - 1));
+            playVoice(soundManager, Math.min(volume, 1f));
         }
-        music.setVolume(volume);
+    }
+
+    /**
+     * Loop the streamed sound matching a given Enum value, replacing any music already playing
+     *
+     * @param soundManager The Enum value of the music to play
+     */
+    private static void playMusic(SoundManager soundManager) {
+        if (music != null)
+            music.stop();
+        music = AssetLoader.get(soundManager.path, Music.class, null);
+        music.setLooping(true);
+        music.setVolume(soundManager.volume);
         music.play();
-        music.setOnCompletionListener(Music::dispose);
     }
-}
\ No newline at end of file
+
+    /**
+     * Play a single instance of an effect. Once the effect already has the maximum number
+     * of voices playing, the oldest voice is stopped to make room for the new one.
+     *
+     * @param soundManager The Enum value of the effect to play
+     * @param volume       The volume to play the effect at, from 0 to 1
+     */
+    private static void playVoice(SoundManager soundManager, float volume) {
+        Sound sound = sounds.get(soundManager);
+        if (sound == null) {
+            sound = AssetLoader.get(soundManager.path, Sound.class, null);
+            sounds.put(soundManager, sound);
+        }
+        int index = soundManager.ordinal();
+        long[] slots = voices[index];
+        int slot = nextVoice[index];
+        if (slots[slot] != 0)
+            sound.stop(slots[slot] - 1);
+        long id = sound.play(volume);
+        //Store the ID offset by one so that an empty slot can be told apart from ID 0
+        slots[slot] = id == -1 ? 0 : id + 1;
+        nextVoice[index] = (slot + 1) % slots.length;
+    }
+
+    /**
+     * Queue every sound to be loaded by the {@link AssetLoader}, unless sounds are muted
+     */
+    static void queueAssets() {
+        if (muted)
+            return;
+        for (SoundManager soundManager : values()) {
+            if (soundManager.streamed)
+                AssetLoader.queue(soundManager.path, Music.class, null);
+            else
+                AssetLoader.queue(soundManager.path, Sound.class, null);
+        }
+    }
+
+    /**
+     * Sets whether effects requested within the same frame are coalesced into a single playback
+     *
+     * @param coalescing Whether effects are coalesced
+     */
+    public static void setCoalescing(boolean coalescing) {
+        SoundManager.coalescing = coalescing;
+    }
+
+    /**
+     * Sets whether sounds are muted. Muted sounds are never loaded, so the game can run without audio.
+     *
+     * @param muted Whether sounds are muted
+     */
+    public static void setMuted(boolean muted) {
+        SoundManager.muted = muted;
+    }
+
+    /**
+     * Dispose of the music and every loaded effect
+     */
+    public static void dispose() {
+        if (music != null) {
+            music.stop();
+            music = null;
+        }
+        for (SoundManager soundManager : values()) {
+            AssetLoader.unload(soundManager.path);
+        }
+        sounds.clear();
+        for (int i = 0; i < voices.length; i++) {
+            Arrays.fill(voices[i], 0);
+            pending[i] = 0;
+            nextVoice[i] = 0;
+        }
+    }
+}
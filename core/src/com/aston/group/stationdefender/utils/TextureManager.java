@@ -1,8 +1,17 @@
 package com.aston.group.stationdefender.utils;
 
+import com.aston.group.stationdefender.config.Constants;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.ParticleEffectLoader.ParticleEffectParameter;
+import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * This enum manages texture loading for the game
@@ -10,149 +19,305 @@ import com.badlogic.gdx.graphics.g2d.ParticleEffect;
  * @author Jonathon Fitch
  */
 public enum TextureManager {
-    BACKGROUND_TITLE,
-    BACKGROUND_1,
-    BACKGROUND_2,
-    BACKGROUND_3,
-    BACKGROUND_4,
-    BACKGROUND_5,
-    BLACK_HOVER,
-    QUICK_SLOT,
-    TILE,
-    TOWER,
-    ALIEN,
-    CLOSE_COMBAT_ALIEN,
-    KAMIKAZE_ALIEN,
-    MINE_ALIEN,
-    RAPID_FIRE_ALIEN,
-    WEAPON,
-    CLOSE_COMBAT_WEAPON,
-    RAPID_FIRE_WEAPON,
-    BOSS_ALIEN_1,
-    BOSS_ALIEN_2,
-    BOSS_ALIEN_3,
-    BOSS_ALIEN_4,
-    PROJECTILE,
-    ITEM_BANDAGES,
-    ITEM_BRICKS,
-    ITEM_CEMENT,
-    ITEM_CREDIT,
-    ITEM_HEALTH,
-    ITEM_WATER,
-    ITEM_WOOD,
-    UNKNOWN;
-
-    /**
-     * Load the texture matching a given ID
+    BACKGROUND_TITLE("textures/intro-back.jpg", false),
+    BACKGROUND_1("textures/level-background.png", false),
+    BACKGROUND_2("textures/back.jpg", false),
+    BACKGROUND_3("textures/space.png", false),
+    BACKGROUND_4("textures/space2.png", false),
+    BACKGROUND_5("textures/space3.png", false),
+    BLACK_HOVER("textures/black.jpg", false),
+    QUICK_SLOT("data/UISkin.png", false),
+    TILE("textures/tile.png", true),
+    TOWER("textures/tower.png", true),
+    ALIEN("textures/enemy.png", true),
+    CLOSE_COMBAT_ALIEN("textures/CloseCombatAlien.png", true),
+    KAMIKAZE_ALIEN("textures/bomber-enemy.png", true),
+    MINE_ALIEN("textures/landmine.png", true),
+    RAPID_FIRE_ALIEN("textures/rf-enemy.png", true),
+    WEAPON("textures/turret.png", true),
+    CLOSE_COMBAT_WEAPON("textures/cc-turret.png", true),
+    RAPID_FIRE_WEAPON("textures/rf-turret.png", true),
+    BOSS_ALIEN_1("textures/boss1.png", true),
+    BOSS_ALIEN_2("textures/boss2.png", true),
+    BOSS_ALIEN_3("textures/boss3.png", true),
+    BOSS_ALIEN_4("textures/boss4.png", true),
+    PROJECTILE("textures/projectile.png", true),
+    ITEM_BANDAGES("textures/item-bandages.png", true),
+    ITEM_BRICKS("textures/item-bricks.png", true),
+    ITEM_CEMENT("textures/item-cement.png", true),
+    ITEM_CREDIT("textures/item-credits.png", true),
+    ITEM_HEALTH("textures/item-health.png", true),
+    ITEM_WATER("textures/item-water.png", true),
+    ITEM_WOOD("textures/item-wood.png", true),
+    UNKNOWN(null, false);
+
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+    private static final String PARTICLE_EFFECT_PATH = "textures/explosion.animation";
+    private static final Map<TextureManager, Texture> textures = new EnumMap<>(TextureManager.class);
+    private static final int[] references = new int[values().length];
+    private static final int[] atlasReferences = new int[values().length];
+    private static TextureAtlas atlas;
+    private static int atlasReferenceCount;
+    private static boolean atlasEnabled = Constants.USE_TEXTURE_ATLAS;
+    private static Boolean atlasAvailable;
+    private final String path;
+    private final boolean packed;
+
+    /**
+     * Construct a new TextureManager ID for a given internal file path
+     *
+     * @param path   The internal path of the texture, null if the ID has no texture
+     * @param packed Whether the texture is packed into the sprite atlas
+     */
+    TextureManager(String path, boolean packed) {
+        this.path = path;
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the internal path of the texture
+     *
+     * @return The internal path of the texture, null if the ID has no texture
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the name of the texture's region within the sprite atlas,
+     * which is the file name of the texture without its extension
+     *
+     * @return The name of the region within the sprite atlas, null if the ID has no texture
+     */
+    public String getRegionName() {
+        if (path == null)
+            return null;
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        return fileName.substring(0, fileName.lastIndexOf('.'));
+    }
+
+    /**
+     * Returns whether the texture is packed into the sprite atlas
+     *
+     * @return true if the texture is packed into the sprite atlas, false if it is loaded on its own
+     */
+    public boolean isPacked() {
+        return packed;
+    }
+
+    /**
+     * Load the texture matching a given ID. The texture is shared between every
+     * caller and is only created the first time it is requested.
+     * Every call must be matched with a call to {@link #unloadTexture(TextureManager)}.
      *
      * @param textureManager The ID number of the texture to load
-     * @return The texture matching the ID
+     * @return The texture matching the ID, null if the ID has no texture
      */
     public static Texture loadTexture(TextureManager textureManager) {
-        Texture texture = null;
-        switch (textureManager) {
-            case BACKGROUND_TITLE:
-                texture = new Texture(Gdx.files.internal("textures/intro-back.jpg"));
-                break;
-            case BACKGROUND_1:
-                texture = new Texture(Gdx.files.internal("textures/level-background.png"));
-                break;
-            case BACKGROUND_2:
-                texture = new Texture(Gdx.files.internal("textures/back.jpg"));
-                break;
-            case BACKGROUND_3:
-                texture = new Texture(Gdx.files.internal("textures/space.png"));
-                break;
-            case BACKGROUND_4:
-                texture = new Texture(Gdx.files.internal("textures/space2.png"));
-                break;
-            case BACKGROUND_5:
-                texture = new Texture(Gdx.files.internal("textures/space3.png"));
-                break;
-            case BLACK_HOVER:
-                texture = new Texture(Gdx.files.internal("textures/black.jpg"));
-                break;
-            case QUICK_SLOT:
-                texture = new Texture(Gdx.files.internal("data/UISkin.png"));
-                break;
-            case TILE:
-                texture = new Texture(Gdx.files.internal("textures/tile.png"));
-                break;
-            case TOWER:
-                texture = new Texture(Gdx.files.internal("textures/tower.png"));
-                break;
-            case ALIEN:
-                texture = new Texture(Gdx.files.internal("textures/enemy.png"));
-                break;
-            case CLOSE_COMBAT_ALIEN:
-                texture = new Texture(Gdx.files.internal("textures/CloseCombatAlien.png"));
-                break;
-            case KAMIKAZE_ALIEN:
-                texture = new Texture(Gdx.files.internal("textures/bomber-enemy.png"));
-                break;
-            case MINE_ALIEN:
-                texture = new Texture(Gdx.files.internal("textures/landmine.png"));
-                break;
-            case RAPID_FIRE_ALIEN:
-                texture = new Texture(Gdx.files.internal("textures/rf-enemy.png"));
-                break;
-            case BOSS_ALIEN_1:
-                texture = new Texture(Gdx.files.internal("textures/boss1.png"));
-                break;
-            case BOSS_ALIEN_2:
-                texture = new Texture(Gdx.files.internal("textures/boss2.png"));
-                break;
-            case BOSS_ALIEN_3:
-                texture = new Texture(Gdx.files.internal("textures/boss3.png"));
-                break;
-            case BOSS_ALIEN_4:
-                texture = new Texture(Gdx.files.internal("textures/boss4.png"));
-                break;
-            case WEAPON:
-                texture = new Texture(Gdx.files.internal("textures/turret.png"));
-                break;
-            case CLOSE_COMBAT_WEAPON:
-                texture = new Texture(Gdx.files.internal("textures/cc-turret.png"));
-                break;
-            case RAPID_FIRE_WEAPON:
-                texture = new Texture(Gdx.files.internal("textures/rf-turret.png"));
-                break;
-            case PROJECTILE:
-                texture = new Texture(Gdx.files.internal("textures/projectile.png"));
-                break;
-            case ITEM_BANDAGES:
-                texture = new Texture(Gdx.files.internal("textures/item-bandages.png"));
-                break;
-            case ITEM_BRICKS:
-                texture = new Texture(Gdx.files.internal("textures/item-bricks.png"));
-                break;
-            case ITEM_CEMENT:
-                texture = new Texture(Gdx.files.internal("textures/item-cement.png"));
-                break;
-            case ITEM_CREDIT:
-                texture = new Texture(Gdx.files.internal("textures/item-credits.png"));
-                break;
-            case ITEM_HEALTH:
-                texture = new Texture(Gdx.files.internal("textures/item-health.png"));
-                break;
-            case ITEM_WATER:
-                texture = new Texture(Gdx.files.internal("textures/item-water.png"));
-                break;
-            case ITEM_WOOD:
-                texture = new Texture(Gdx.files.internal("textures/item-wood.png"));
-                break;
+        if (textureManager.path == null)
+            return null;
+        Texture texture = textures.get(textureManager);
+        if (texture == null) {
+            texture = AssetLoader.get(textureManager.path, Texture.class, null);
+            textures.put(textureManager, texture);
         }
+        references[textureManager.ordinal()]++;
         return texture;
     }
 
     /**
-     * Load the animation matching a given ID
+     * Release a texture previously returned by {@link #loadTexture(TextureManager)}.
+     * The texture is disposed once it has no references left, unless it was preloaded by the {@link AssetLoader}.
+     *
+     * @param textureManager The ID number of the texture to release
+     */
+    public static void unloadTexture(TextureManager textureManager) {
+        int index = textureManager.ordinal();
+        if (references[index] > 0 && --references[index] == 0) {
+            if (textures.remove(textureManager) != null)
+                AssetLoader.unload(textureManager.path);
+        }
+    }
+
+    /**
+     * Load the TextureRegion matching a given ID. When the atlas mode is enabled and the
+     * texture is packed the region comes from the shared sprite atlas, so that sprites can be
+     * drawn without switching textures. Otherwise the region covers the whole shared texture.
+     * Every call must be matched with a call to {@link #unloadRegion(TextureManager)}.
      *
-     * @return The animation matching the given ID
+     * @param textureManager The ID number of the TextureRegion to load
+     * @return The TextureRegion matching the ID, null if the ID has no texture
+     */
+    public static TextureRegion loadRegion(TextureManager textureManager) {
+        if (textureManager.path == null)
+            return null;
+        if (textureManager.packed && isAtlasEnabled()) {
+            if (atlas == null)
+                atlas = AssetLoader.get(ATLAS_PATH, TextureAtlas.class, null);
+            TextureRegion region = atlas.findRegion(textureManager.getRegionName());
+            if (region != null) {
+                atlasReferences[textureManager.ordinal()]++;
+                atlasReferenceCount++;
+                return region;
+            }
+        }
+        return new TextureRegion(loadTexture(textureManager));
+    }
+
+    /**
+     * Release a TextureRegion previously returned by {@link #loadRegion(TextureManager)}.
+     * The atlas or texture backing it is disposed once it has no references left, unless it was preloaded
+     * by the {@link AssetLoader}.
+     *
+     * @param textureManager The ID number of the TextureRegion to release
+     */
+    public static void unloadRegion(TextureManager textureManager) {
+        int index = textureManager.ordinal();
+        if (atlasReferences[index] > 0) {
+            atlasReferences[index]--;
+            if (--atlasReferenceCount == 0) {
+                AssetLoader.unload(ATLAS_PATH);
+                atlas = null;
+            }
+        } else {
+            unloadTexture(textureManager);
+        }
+    }
+
+    /**
+     * Returns whether TextureRegions are handed out from the sprite atlas
+     *
+     * @return true if the atlas mode is enabled and the atlas has been packed, false if not
+     */
+    public static boolean isAtlasEnabled() {
+        if (atlasAvailable == null)
+            atlasAvailable = Gdx.files.internal(ATLAS_PATH).exists();
+        return atlasEnabled && atlasAvailable;
+    }
+
+    /**
+     * Sets whether TextureRegions should be handed out from the sprite atlas.
+     * Only affects regions loaded after the call.
+     *
+     * @param enabled Whether the atlas mode is enabled
+     */
+    public static void setAtlasEnabled(boolean enabled) {
+        atlasEnabled = enabled;
+    }
+
+    /**
+     * Returns the number of textures currently in use
+     *
+     * @return The number of resident textures
+     */
+    public static int getResidentTextureCount() {
+        int count = textures.size();
+        if (atlas != null)
+            count += atlas.getTextures().size;
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the GPU memory used by the textures currently in use
+     *
+     * @return The number of bytes used by the resident textures
+     */
+    public static long getResidentTextureBytes() {
+        long bytes = 0;
+        for (Texture texture : textures.values()) {
+            bytes += getTextureBytes(texture);
+        }
+        if (atlas != null) {
+            for (Texture texture : atlas.getTextures()) {
+                bytes += getTextureBytes(texture);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns an estimate of the GPU memory used by a single texture
+     *
+     * @param texture The texture to measure
+     * @return The number of bytes used by the texture
+     */
+    private static long getTextureBytes(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight() * getBytesPerPixel(texture.getTextureData().getFormat());
+    }
+
+    /**
+     * Returns the number of bytes a single pixel takes up in a given format
+     *
+     * @param format The Pixmap format of the texture
+     * @return The number of bytes per pixel
+     */
+    private static int getBytesPerPixel(Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * Release every resident texture and the sprite atlas regardless of their references.
+     * Preloaded assets are disposed of by {@link AssetLoader#dispose()}.
+     */
+    public static void dispose() {
+        for (TextureManager textureManager : textures.keySet()) {
+            AssetLoader.unload(textureManager.path);
+        }
+        textures.clear();
+        Arrays.fill(references, 0);
+        if (atlas != null) {
+            AssetLoader.unload(ATLAS_PATH);
+            atlas = null;
+        }
+        Arrays.fill(atlasReferences, 0);
+        atlasReferenceCount = 0;
+    }
+
+    /**
+     * Load the explosion animation. The images of the animation are shared with the loaded asset,
+     * so disposing of the returned copy doesn't dispose of them.
+     *
+     * @return A copy of the explosion animation
      */
     public static ParticleEffect loadParticleEffect() {
-        ParticleEffect particleEffect = new ParticleEffect();
-        particleEffect.load(Gdx.files.internal("textures/explosion.animation"), Gdx.files.internal(""));
-        return particleEffect;
+        return new ParticleEffect(AssetLoader.get(PARTICLE_EFFECT_PATH, ParticleEffect.class, getParticleEffectParameter()));
+    }
+
+    /**
+     * Returns how to load the explosion animation, with its images found relative to the internal root
+     *
+     * @return The loader parameter of the explosion animation
+     */
+    private static ParticleEffectParameter getParticleEffectParameter() {
+        ParticleEffectParameter parameter = new ParticleEffectParameter();
+        parameter.imagesDir = Gdx.files.internal("");
+        return parameter;
+    }
+
+    /**
+     * Queue every texture and the explosion animation to be loaded by the {@link AssetLoader}.
+     * Packed textures are only queued on their own when the atlas isn't used.
+     */
+    static void queueAssets() {
+        boolean atlasEnabled = isAtlasEnabled();
+        if (atlasEnabled)
+            AssetLoader.queue(ATLAS_PATH, TextureAtlas.class, null);
+        for (TextureManager textureManager : values()) {
+            if (textureManager.path != null && !(textureManager.packed && atlasEnabled))
+                AssetLoader.queue(textureManager.path, Texture.class, null);
+        }
+        AssetLoader.queue(PARTICLE_EFFECT_PATH, ParticleEffect.class, getParticleEffectParameter());
     }
 }
\ No newline at end of file
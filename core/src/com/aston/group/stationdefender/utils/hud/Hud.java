@@ -1,5 +1,8 @@
 package com.aston.group.stationdefender.utils.hud;
 
+import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.engine.RenderQueue;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
 
 /**
@@ -12,14 +15,24 @@ public enum Hud {
     private static final Array<HudElement> hudElements = new Array<>();
 
     /**
-     * Render the HudElements
+     * Render the HudElements, drawing all of their shapes in one pass and all of their text in another.
+     * Must be called outside of the SpriteBatch's begin and end.
      *
      * @param delta The time in seconds since the last render
      */
     public static void render(float delta) {
+        if (hudElements.size == 0)
+            return;
+        for (HudElement hudElement : hudElements) {
+            hudElement.queueShapes();
+        }
+        RenderQueue.flush();
+        SpriteBatch batch = GameEngine.getBatch();
+        batch.begin();
         for (HudElement hudElement : hudElements) {
             hudElement.render(delta);
         }
+        batch.end();
     }
 
     /**
@@ -2,11 +2,11 @@ package com.aston.group.stationdefender.utils.hud;
 
 import com.aston.group.stationdefender.config.Constants;
 import com.aston.group.stationdefender.engine.GameEngine;
+import com.aston.group.stationdefender.engine.RenderQueue;
 import com.aston.group.stationdefender.utils.FontManager;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 
 /**
  * This class is a container for the HUD
@@ -16,7 +16,6 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 public class HudContainer extends HudElement {
     final BitmapFont font = FontManager.getFont(16);
     final SpriteBatch batch = GameEngine.getBatch();
-    private final ShapeRenderer shapeRenderer = GameEngine.getShapeRenderer();
 
     /**
      * Creates a new HudContainer with given X and Y co-ordinates
@@ -28,16 +27,15 @@ public class HudContainer extends HudElement {
         super(x, y);
     }
 
+    @Override
+    public void queueShapes() {
+        RenderQueue.queueRect(x, y, width, height, Constants.primaryColor);
+        RenderQueue.queueRect(x, (height + y) - 20, width, 20, Constants.primaryDarkColor);
+    }
+
     @Override
     public void render(float delta) {
-        shapeRenderer.begin(ShapeType.Filled);
-        shapeRenderer.setColor(Constants.primaryColor);
-        shapeRenderer.rect(x, y, width, height);
-        shapeRenderer.setColor(Constants.primaryDarkColor);
-        shapeRenderer.rect(x, (height + y) - 20, width, 20);
-        shapeRenderer.end();
-        batch.begin();
+        font.setColor(Color.WHITE);
         font.draw(batch, title, x + 5, (height + y) - 5);
-        batch.end();
     }
 }
\ No newline at end of file
@@ -25,7 +25,14 @@ public abstract class HudElement {
     }
 
     /**
-     * Render the HudElement
+     * Queue the shapes of the HudElement on the RenderQueue
+     */
+    public void queueShapes() {
+    }
+
+    /**
+     * Render the HudElement.
+     * Must be called between the SpriteBatch's begin and end.
      *
      * @param delta The time in seconds since the last render
      */
@@ -26,35 +26,31 @@ public class HudUnit extends HudContainer {
         title = unit.getName();
         width = 150;
         height = 110;
-        if (title.contains("Weapon"))
+        if (unit instanceof Weapon)
             height += 20;
     }
 
     @Override
     public void render(float delta) {
         super.render(delta);
-        batch.begin();
         textY = (height + y) - 25;
         font.draw(batch, "Damage: " + unit.getDamage(), x + 5, textY);
-        restartBatch();
+        nextLine();
         font.draw(batch, "Health: " + unit.getHealth(), x + 5, textY);
-        restartBatch();
-        if (title.contains("Weapon")) {
+        nextLine();
+        if (unit instanceof Weapon) {
             font.draw(batch, "Cost: " + ((Weapon) unit).getCost(), x + 5, textY);
-            restartBatch();
+            nextLine();
         }
         font.draw(batch, "Range: " + unit.getRange(), x + 5, textY);
-        restartBatch();
+        nextLine();
         font.draw(batch, "ROF: " + unit.getRateOfFire(), x + 5, textY);
-        batch.end();
     }
 
     /**
-     * Restarts the SpriteBatch to allow more objects to be drawn on the screen
+     * Moves the text down to the next line
      */
-    private void restartBatch() {
-        batch.end();
-        batch.begin();
+    private void nextLine() {
         textY -= 20;
     }
 }
\ No newline at end of file
@@ -12,13 +12,13 @@ import com.badlogic.gdx.utils.Array;
 import java.util.Iterator;
 
 /**
- * This is a manager class for Indicators
+ * This is a manager class for Indicators.
+ * Indicators are moved and expired by {@link #update(float)}, which Actors call on every simulation step,
+ * so that a Level simulated without rendering doesn't build up Indicators that are never drawn.
  *
  * @author Mohammad Foysal
  */
 public class IndicatorManager {
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final BitmapFont font = FontManager.getFont(18);
     private final Array<Indicator> indicators = new Array<>();
     private int x, y;
 
@@ -33,16 +33,11 @@ public class IndicatorManager {
     }
 
     /**
-     * Render the Indicator on screen
+     * Move the Indicators, removing any that have finished
      *
-     * @param delta The time in seconds since the last render
-     * @param x     The X co-ordinate of the Indicator
-     * @param y     The Y co-ordinate of the Indicator
+     * @param delta The time in seconds since the last update
      */
-    public void render(float delta, int x, int y) {
-        this.x = x;
-        this.y = y;
-
+    public void update(float delta) {
         Iterator<Indicator> it = indicators.iterator();
         while (it.hasNext()) {
             Indicator indicator = it.next();
@@ -52,13 +47,26 @@ public class IndicatorManager {
             indicator.setX((int) Interpolation.linear.apply(0, indicator.getDestX(), MathUtils.clamp(indicator.getXElapsed(), 0, 1)));
             indicator.setY((int) Interpolation.linear.apply(0, indicator.getDestY(), MathUtils.clamp(indicator.getYElapsed(), 0, 1)));
 
-            batch.begin();
+            if (indicator.getFadeElapsed() > 5 || indicator.getY() == indicator.getDestY())
+                it.remove();
+        }
+    }
+
+    /**
+     * Render the Indicators on screen.
+     * Must be called between the SpriteBatch's begin and end.
+     *
+     * @param x The X co-ordinate of the Indicators
+     * @param y The Y co-ordinate of the Indicators
+     */
+    public void render(int x, int y) {
+        this.x = x;
+        this.y = y;
+        SpriteBatch batch = GameEngine.getBatch();
+        BitmapFont font = FontManager.getFont(18);
+        for (Indicator indicator : indicators) {
             font.setColor(indicator.getColor());
             font.draw(batch, indicator.getText(), x + indicator.getX(), y + indicator.getY());
-            batch.end();
-
-            if (System.currentTimeMillis() - indicator.getTimeDisplayed() > 5000 || indicator.getY() == indicator.getDestY())
-                it.remove();
         }
     }
 
@@ -66,7 +74,7 @@ public class IndicatorManager {
      * Dispose of unneeded assets
      */
     public void dispose() {
-        font.dispose();
+        indicators.clear();
     }
 
     /**
@@ -76,10 +84,9 @@ public class IndicatorManager {
      */
     private static class Indicator {
         private final String text;
-        private final long timeDisplayed;
         private final Color color;
-        private final int destX = (int) (Math.random() * 50) * (Math.floor(Math.random() * 2) == 1 ? 1 : -1);
-        private final int destY = (int) (Math.random() * 50) * (Math.floor(Math.random() * 2) == 1 ? 1 : -1);
+        private final int destX = MathUtils.random(49) * (MathUtils.randomBoolean() ? 1 : -1);
+        private final int destY = MathUtils.random(49) * (MathUtils.randomBoolean() ? 1 : -1);
         private int x, y;
         private float fadeElapsed;
         private float yElapsed;
@@ -98,7 +105,6 @@ public class IndicatorManager {
             this.color = color;
             this.x = x;
             this.y = y;
-            timeDisplayed = System.currentTimeMillis();
         }
 
         /**
@@ -219,15 +225,6 @@ public class IndicatorManager {
             this.xElapsed = xElapsed;
         }
 
-        /**
-         * Returns the time that the Indicator was displayed
-         *
-         * @return The time that the Indicator was displayed
-         */
-        long getTimeDisplayed() {
-            return timeDisplayed;
-        }
-
         /**
          * Returns the colour of the Indicator
          *
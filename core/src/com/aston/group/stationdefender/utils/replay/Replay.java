@@ -0,0 +1,148 @@
+package com.aston.group.stationdefender.utils.replay;
+
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.gamesetting.Level;
+import com.aston.group.stationdefender.gamesetting.Player;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
+import com.aston.group.stationdefender.utils.resources.StackableInventory;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Replay is a log recorded by {@link ReplayRecorder}, which can be played back as fast as possible
+ * without rendering. Playback compares the game state with the recorded hash after every
+ * simulation step, so a desync is found at the step where it happens.
+ */
+public class Replay {
+    private static final ReplayEvent[] events = ReplayEvent.values();
+    private final byte[] bytes;
+    private final int start;
+    private final long seed;
+    private final int levelNumber;
+    private final int score;
+    private final int money;
+    private final StackableInventory items = new StackableInventory();
+
+    /**
+     * Construct a new Replay from a recorded log
+     *
+     * @param bytes The bytes of the log
+     */
+    public Replay(byte[] bytes) {
+        this.bytes = bytes;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        try {
+            if (in.readInt() != ReplayRecorder.MAGIC)
+                throw new GdxRuntimeException("Not a replay");
+            int version = in.readUnsignedByte();
+            if (version != ReplayRecorder.VERSION)
+                throw new GdxRuntimeException("Unsupported replay version: " + version);
+            seed = in.readLong();
+            levelNumber = in.readInt();
+            score = in.readInt();
+            money = in.readInt();
+            int stackCount = in.readUnsignedShort();
+            ItemFactory[] skus = ItemFactory.values();
+            for (int i = 0; i < stackCount; i++) {
+                ItemFactory sku = skus[in.readUnsignedByte()];
+                items.addItems(sku, in.readUnsignedShort());
+            }
+            start = bytes.length - in.available();
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the seed of the recorded Level
+     *
+     * @return The seed of the Level
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of the recorded Level
+     *
+     * @return The number of the Level
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Returns the score of the Player when the recording started
+     *
+     * @return The starting score of the Player
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the money of the Player when the recording started
+     *
+     * @return The starting money of the Player
+     */
+    public int getMoney() {
+        return money;
+    }
+
+    /**
+     * Returns the Player's Inventory when the recording started
+     *
+     * @return The starting Items of the Player
+     */
+    public StackableInventory getItems() {
+        return items;
+    }
+
+    /**
+     * Play the Replay back on a new Level and Player created from the Replay's seed and starting state,
+     * until the end of the log or the first desync.
+     *
+     * @param level  The Level to play the Replay on
+     * @param player The Player to play the Replay with
+     * @return The number of the simulation step that desynced, or -1 if the whole Replay played back the same
+     */
+    public int play(Level level, Player player) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, start, bytes.length - start));
+        int tick = 0;
+        try {
+            while (in.available() > 0) {
+                int tag = in.readUnsignedByte();
+                if (tag == ReplayRecorder.TICK) {
+                    int stateHash = in.readInt();
+                    level.update(Constants.STEP);
+                    if (ReplayRecorder.getStateHash(level, player) != stateHash)
+                        return tick;
+                    tick++;
+                } else {
+                    int event = tag - ReplayRecorder.TICK - 1;
+                    if (event < 0 || event >= events.length)
+                        throw new GdxRuntimeException("Unknown replay event: " + tag);
+                    int a = in.readShort();
+                    int b = in.readShort();
+                    switch (events[event]) {
+                        case USE_ITEM:
+                            player.useItemAt(a, b);
+                            break;
+                        case COLLECT_ITEM:
+                            player.collectItemAt(a, b);
+                            break;
+                        case SELECT_SLOT:
+                            player.selectSlot(a);
+                            break;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,11 @@
+package com.aston.group.stationdefender.utils.replay;
+
+/**
+ * The actions of a Player that are recorded in a replay.
+ * Input that doesn't change the simulation, such as pausing, isn't recorded.
+ */
+public enum ReplayEvent {
+    USE_ITEM,
+    COLLECT_ITEM,
+    SELECT_SLOT
+}
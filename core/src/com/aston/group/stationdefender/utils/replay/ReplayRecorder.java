@@ -0,0 +1,146 @@
+package com.aston.group.stationdefender.utils.replay;
+
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.gamesetting.Level;
+import com.aston.group.stationdefender.gamesetting.Player;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemStack;
+import com.aston.group.stationdefender.utils.save.AutosaveService;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * ReplayRecorder records a Level being played to a compact binary log that can be played back by {@link Replay}.
+ * The log starts with the seed of the Level and the starting state of the Player, including the
+ * SKU and count of each of the Player's ItemStacks in order, followed by the
+ * Player's actions and a hash of the game state after every simulation step.
+ * As the simulation is deterministic, the seed and the actions are enough to play the Level again.
+ * Recording hashes the whole game state every step, so it is only enabled by default in debug builds.
+ */
+public class ReplayRecorder {
+    static final int MAGIC = 0x53445250;
+    static final int VERSION = 2;
+    static final int TICK = 0;
+    private static boolean enabled = Constants.RECORD_REPLAYS;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private int ticks;
+
+    /**
+     * Construct a new ReplayRecorder for a Level that is about to be played
+     *
+     * @param level  The Level being played, before it has been updated
+     * @param player The Player playing the Level, before it has acted
+     */
+    public ReplayRecorder(Level level, Player player) {
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(level.getSeed());
+            out.writeInt(level.getLevelNumber());
+            out.writeInt(player.getScore());
+            out.writeInt(player.getMoney());
+            Array<ItemStack> itemStacks = player.getInventory().getItemStacks();
+            out.writeShort(itemStacks.size);
+            for (ItemStack itemStack : itemStacks) {
+                out.writeByte(itemStack.getSku().ordinal());
+                out.writeShort(itemStack.getCount());
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns whether Levels started from now on are recorded
+     *
+     * @return true if replays are recorded, false if not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether Levels should be recorded. Only affects Levels started after the call.
+     *
+     * @param enabled Whether replays are recorded
+     */
+    public static void setEnabled(boolean enabled) {
+        ReplayRecorder.enabled = enabled;
+    }
+
+    /**
+     * Returns a hash of the state of a Level and the Player playing it, used to find where a replay desyncs
+     *
+     * @param level  The Level being played
+     * @param player The Player playing the Level
+     * @return The hash of the game state
+     */
+    public static int getStateHash(Level level, Player player) {
+        return 31 * level.getStateHash() + player.getStateHash();
+    }
+
+    /**
+     * Record an action of the Player, which is played back before the next simulation step
+     *
+     * @param event The action of the Player
+     * @param a     The first argument of the action, such as an X co-ordinate or a QuickSlot
+     * @param b     The second argument of the action, such as a Y co-ordinate
+     */
+    public void record(ReplayEvent event, int a, int b) {
+        try {
+            out.writeByte(TICK + 1 + event.ordinal());
+            out.writeShort(a);
+            out.writeShort(b);
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    /**
+     * Record that a simulation step has been taken
+     *
+     * @param stateHash The hash of the game state after the step
+     */
+    public void tick(int stateHash) {
+        try {
+            out.writeByte(TICK);
+            out.writeInt(stateHash);
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+        ticks++;
+    }
+
+    /**
+     * Returns the number of simulation steps recorded
+     *
+     * @return The number of steps recorded
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the recorded log
+     *
+     * @return The bytes of the log
+     */
+    public byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Save the recorded log to a file in the background, replacing the file if it exists.
+     * The log is copied, so recording can carry on while it is written.
+     *
+     * @param file The file to save the log to
+     */
+    public void save(FileHandle file) {
+        AutosaveService.save(file, toByteArray());
+    }
+}
@@ -3,10 +3,8 @@ package com.aston.group.stationdefender.utils.resources;
 import com.aston.group.stationdefender.engine.GameEngine;
 import com.aston.group.stationdefender.gamesetting.items.Item;
 import com.aston.group.stationdefender.gamesetting.items.helpers.ItemStack;
-import com.aston.group.stationdefender.utils.FontManager;
 import com.aston.group.stationdefender.utils.TextureManager;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
@@ -21,11 +19,9 @@ public class QuickSlot {
     private static final int y = 0;
     private static final int width = 48;
     private static final int height = 48;
-    private final SpriteBatch batch = GameEngine.getBatch();
-    private final TextureRegion trQuickSlot;
-    private final TextureRegion trQuickSlotHovered;
-    private final BitmapFont font = FontManager.getFont(16);
     private final int x;
+    private TextureRegion trQuickSlot;
+    private TextureRegion trQuickSlotHovered;
     private boolean isSelected;
     private ItemStack itemStack;
 
@@ -36,9 +32,6 @@ public class QuickSlot {
      */
     public QuickSlot(int x) {
         this.x = x;
-        Texture texture = TextureManager.loadTexture(TextureManager.QUICK_SLOT);
-        trQuickSlot = new TextureRegion(texture, 78, 29, 20, 20);
-        trQuickSlotHovered = new TextureRegion(texture, 57, 29, 20, 20);
     }
 
     /**
@@ -70,18 +63,21 @@ public class QuickSlot {
 
     /**
      * Render the QuickSlot.
+     * Must be called between the SpriteBatch's begin and end.
      */
     public void render() {
+        SpriteBatch batch = GameEngine.getBatch();
+        if (trQuickSlot == null) {
+            Texture texture = TextureManager.loadTexture(TextureManager.QUICK_SLOT);
+            trQuickSlot = new TextureRegion(texture, 78, 29, 20, 20);
+            trQuickSlotHovered = new TextureRegion(texture, 57, 29, 20, 20);
+        }
 
         //Draw Hovered Batch
         if (isSelected) {
-            batch.begin();
             batch.draw(trQuickSlotHovered, x, y, width, height);
-            batch.end();
         } else {
-            batch.begin();
             batch.draw(trQuickSlot, x, y, width, height);
-            batch.end();
         }
         if (itemStack != null) {
             itemStack.setX(x + (width / 5));
@@ -94,7 +90,11 @@ public class QuickSlot {
      * Dispose of the resources created
      */
     public void dispose() {
-        font.dispose();
+        if (trQuickSlot != null) {
+            TextureManager.unloadTexture(TextureManager.QUICK_SLOT);
+            trQuickSlot = null;
+            trQuickSlotHovered = null;
+        }
     }
 
     /**
@@ -1,63 +1,114 @@
 package com.aston.group.stationdefender.utils.resources;
 
 import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
 import com.aston.group.stationdefender.gamesetting.items.helpers.ItemStack;
 import com.badlogic.gdx.utils.Array;
 
-import java.util.Objects;
+import java.util.EnumMap;
 
 /**
  * StackableInventory is an Inventory that allows Items to be stacked to allow more than one of the same type of item
- * per slot
+ * per slot. There is one ItemStack per SKU, found by SKU, so adding and removing Items takes the same time
+ * however many Items there are.
  *
  * @author Mohammed Foysal
  */
 public class StackableInventory {
+    private final EnumMap<ItemFactory, ItemStack> stacksBySku = new EnumMap<>(ItemFactory.class);
     private final Array<ItemStack> itemStacks = new Array<>();
 
+    /**
+     * Add an Item to the StackableInventory
+     *
+     * @param item The Item to be added to the StackableInventory
+     */
     public void addItem(Item item) {
-        ItemStack itemStack = findStack(item);
+        ItemStack itemStack = stacksBySku.get(item.getSku());
         if (itemStack != null) {
-            itemStack.addItem(item);
+            itemStack.addItem();
         } else {
-            ItemStack newStack = new ItemStack(item);
-            itemStacks.add(newStack);
+            addStack(new ItemStack(item));
         }
     }
 
+    /**
+     * Add a number of Items of the same SKU to the StackableInventory.
+     * Adding no Items still creates an empty ItemStack for the SKU, taking up a QuickSlot.
+     *
+     * @param sku   The SKU of the Items to be added
+     * @param count The number of Items to be added
+     */
+    public void addItems(ItemFactory sku, int count) {
+        ItemStack itemStack = stacksBySku.get(sku);
+        if (itemStack != null) {
+            itemStack.addItems(count);
+        } else {
+            addStack(new ItemStack(ItemFactory.getItem(sku), count));
+        }
+    }
+
+    /**
+     * Add a new ItemStack after the existing ones
+     *
+     * @param itemStack The ItemStack to add
+     */
+    private void addStack(ItemStack itemStack) {
+        stacksBySku.put(itemStack.getSku(), itemStack);
+        itemStacks.add(itemStack);
+    }
+
     /**
      * Remove an Item from the StackableInventory
      *
      * @param item The Item to be removed from the StackableInventory
      */
     public void removeItem(Item item) {
-        ItemStack itemStack = findStack(item);
+        ItemStack itemStack = stacksBySku.get(item.getSku());
         if (itemStack != null) {
-            itemStack.removeItem(item);
+            itemStack.removeItem();
+        }
+    }
+
+    /**
+     * Remove the ItemStacks that have been emptied, moving the ItemStacks after them up
+     */
+    public void removeEmptyStacks() {
+        for (int i = itemStacks.size - 1; i >= 0; i--) {
+            ItemStack itemStack = itemStacks.get(i);
+            if (itemStack.getCount() == 0) {
+                stacksBySku.remove(itemStack.getSku());
+                itemStacks.removeIndex(i);
+            }
         }
     }
 
     /**
-     * Returns the ItemStacks being used in the StackableInventory
+     * Remove every ItemStack from the StackableInventory
+     */
+    public void clear() {
+        stacksBySku.clear();
+        itemStacks.clear();
+    }
+
+    /**
+     * Returns the number of Items of a SKU in the StackableInventory
      *
-     * @return The ItemStacks being used in the StackableInventory
+     * @param sku The SKU of the Items to count
+     * @return The number of Items of the SKU
      */
-    public Array<ItemStack> getItemStacks() {
-        return itemStacks;
+    public int getCount(ItemFactory sku) {
+        ItemStack itemStack = stacksBySku.get(sku);
+        return itemStack != null ? itemStack.getCount() : 0;
     }
 
     /**
-     * Find the ItemStack for a specific Item
+     * Returns the ItemStacks being used in the StackableInventory, in the order their SKUs were first added.
+     * An ItemStack stays in place when it is emptied, so the QuickSlots don't move.
      *
-     * @param item The Item to find the ItemStack of
-     * @return The ItemStack that contains the Item
+     * @return The ItemStacks being used in the StackableInventory
      */
-    private ItemStack findStack(Item item) {
-        for (ItemStack itemStack : itemStacks) {
-            if (Objects.equals(itemStack.getItemName(), item.getName()) && !itemStack.isFull()) {
-                return itemStack;
-            }
-        }
-        return null;
+    public Array<ItemStack> getItemStacks() {
+        return itemStacks;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,231 @@
+package com.aston.group.stationdefender.utils.save;
+
+import com.aston.group.stationdefender.callbacks.SaveCallback;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AutosaveService writes save files on a background thread, so that the fsync and rename of a
+ * {@link SaveWriter} never stall a frame. The game state is copied into the SaveWriter on the render thread,
+ * which only takes a fraction of a millisecond, then the SaveWriter is handed over and must not be used again.
+ * Other files, such as replays, can be saved from a copy of their bytes in the same way.
+ * Each save file has a single pending save: a save requested while an older one is still waiting replaces it,
+ * so back to back saves of the same file are only written once. Saves and deletes of a file happen in the order
+ * they were requested.
+ */
+public enum AutosaveService {
+    ;
+
+    private static final ObjectMap<String, AtomicReference<Job>> pending = new ObjectMap<>();
+    private static ExecutorService executor;
+    private static volatile SaveCallback saveCallback;
+    private static volatile float lastLatency;
+    private static volatile float maxLatency;
+    private static volatile int saveCount;
+    private static volatile int coalescedCount;
+
+    /**
+     * Write a save file in the background, replacing any save of the same file that hasn't been written yet
+     *
+     * @param file   The file to save to
+     * @param writer The save to write, which must not be used again
+     */
+    public static void save(FileHandle file, SaveWriter writer) {
+        submit(new Job(file, writer, null));
+    }
+
+    /**
+     * Write a file in the background from its bytes, replacing any save of the same file that hasn't been written yet
+     *
+     * @param file  The file to save to
+     * @param bytes The contents of the file, which must not be changed afterwards
+     */
+    public static void save(FileHandle file, byte[] bytes) {
+        submit(new Job(file, null, bytes));
+    }
+
+    /**
+     * Delete a save file in the background, after any save of it that was requested before
+     *
+     * @param file The save file to delete
+     */
+    public static void delete(FileHandle file) {
+        submit(new Job(file, null, null));
+    }
+
+    /**
+     * Queue a save or delete of a file, only queueing a write on the background thread if the file had nothing pending
+     *
+     * @param job The save or delete of the file
+     */
+    private static synchronized void submit(Job job) {
+        String path = job.file.path();
+        AtomicReference<Job> slot = pending.get(path);
+        if (slot == null) {
+            slot = new AtomicReference<>();
+            pending.put(path, slot);
+        }
+        if (slot.getAndSet(job) != null) {
+            coalescedCount++;
+            return;
+        }
+        AtomicReference<Job> jobs = slot;
+        getExecutor().execute(() -> write(jobs));
+    }
+
+    /**
+     * Write the pending save of a file on the background thread, then report it on the render thread
+     *
+     * @param slot The pending save of the file
+     */
+    private static void write(AtomicReference<Job> slot) {
+        Job job = slot.getAndSet(null);
+        if (job == null)
+            return;
+        String path = job.file.path();
+        SaveCallback callback = saveCallback;
+        try {
+            if (job.writer != null)
+                job.writer.save(job.file);
+            else if (job.bytes != null)
+                SaveWriter.write(job.file, ByteBuffer.wrap(job.bytes));
+            else
+                SaveWriter.delete(job.file);
+        } catch (RuntimeException e) {
+            if (callback != null && Gdx.app != null)
+                Gdx.app.postRunnable(() -> callback.onSaveFailed(path, e));
+            return;
+        }
+        float latency = (System.nanoTime() - job.requestTime) / 1e6f;
+        lastLatency = latency;
+        if (latency > maxLatency)
+            maxLatency = latency;
+        saveCount++;
+        if (callback != null && Gdx.app != null)
+            Gdx.app.postRunnable(() -> callback.onSaved(path, latency));
+    }
+
+    /**
+     * Wait for every save that has been requested to be written, before a save file is read
+     */
+    public static synchronized void finish() {
+        if (executor == null)
+            return;
+        try {
+            executor.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the background thread that saves are written on, starting it the first time it is needed
+     *
+     * @return The ExecutorService of the background thread
+     */
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Autosave");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Sets the SaveCallback that is told when each save is written
+     *
+     * @param saveCallback The SaveCallback to use, null for none
+     */
+    public static void setSaveCallback(SaveCallback saveCallback) {
+        AutosaveService.saveCallback = saveCallback;
+    }
+
+    /**
+     * Returns the latency of the last save written
+     *
+     * @return The time in milliseconds from the last save being requested to it being on the disk
+     */
+    public static float getLastLatency() {
+        return lastLatency;
+    }
+
+    /**
+     * Returns the highest latency of any save written
+     *
+     * @return The highest time in milliseconds from a save being requested to it being on the disk
+     */
+    public static float getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * Returns the number of saves and deletes that have been written
+     *
+     * @return The number of saves written
+     */
+    public static int getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of saves that were replaced by a newer save of the same file before being written
+     *
+     * @return The number of saves coalesced into a later one
+     */
+    public static int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Write every pending save and stop the background thread
+     */
+    public static synchronized void dispose() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executor = null;
+        }
+    }
+
+    /**
+     * A save or delete of a file waiting to be written
+     */
+    private static class Job {
+        private final FileHandle file;
+        private final SaveWriter writer;
+        private final byte[] bytes;
+        private final long requestTime = System.nanoTime();
+
+        /**
+         * Construct a new Job
+         *
+         * @param file   The save file
+         * @param writer The save to write, null to write the bytes instead
+         * @param bytes  The contents to write if there is no SaveWriter, null with no SaveWriter to delete the file
+         */
+        Job(FileHandle file, SaveWriter writer, byte[] bytes) {
+            this.file = file;
+            this.writer = writer;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.aston.group.stationdefender.utils.save;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * SaveReader reads a save file written by {@link SaveWriter} one chunk at a time.
+ * The whole file is read and its CRC32 checked before any of it is used, so a damaged save is never half loaded.
+ */
+public class SaveReader {
+    static final int MAGIC = 0x53445356;
+    static final int VERSION = 1;
+    private final ByteBuffer buffer;
+    private final int version;
+    private int chunkEnd;
+
+    /**
+     * Construct a new SaveReader from the bytes of a save file, checking its header and CRC32
+     *
+     * @param buffer The bytes of the save file, from its position to its limit
+     */
+    public SaveReader(ByteBuffer buffer) {
+        if (buffer.remaining() < 9 || buffer.getInt(buffer.position()) != MAGIC)
+            throw new GdxRuntimeException("Not a save file");
+        int crcPosition = buffer.limit() - 4;
+        CRC32 crc = new CRC32();
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + buffer.position(), crcPosition - buffer.position());
+        } else {
+            byte[] bytes = new byte[crcPosition - buffer.position()];
+            buffer.duplicate().get(bytes);
+            crc.update(bytes);
+        }
+        if ((int) crc.getValue() != buffer.getInt(crcPosition))
+            throw new GdxRuntimeException("Save file is damaged");
+        buffer.getInt();
+        version = buffer.get() & 0xFF;
+        if (version > VERSION)
+            throw new GdxRuntimeException("Unsupported save version: " + version);
+        buffer.limit(crcPosition);
+        this.buffer = buffer;
+        chunkEnd = buffer.position();
+    }
+
+    /**
+     * Read a save file from storage. If the save was interrupted between writing the new save and
+     * replacing the old one, the new save is read instead.
+     *
+     * @param file The file to read
+     * @return A SaveReader for the file, or null if there is no save
+     */
+    public static SaveReader load(FileHandle file) {
+        File target = file.file();
+        if (!target.exists()) {
+            target = getTempFile(target);
+            if (!target.exists())
+                return null;
+        }
+        try (FileInputStream in = new FileInputStream(target)) {
+            FileChannel channel = in.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1)
+                    throw new GdxRuntimeException("Save file ended early");
+            }
+            buffer.flip();
+            return new SaveReader(buffer);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read " + target, e);
+        }
+    }
+
+    /**
+     * Returns the temporary file a save is written to before it replaces the old save
+     *
+     * @param target The save file
+     * @return The temporary file next to the save file
+     */
+    static File getTempFile(File target) {
+        return new File(target.getPath() + ".tmp");
+    }
+
+    /**
+     * Returns the version of the save format the file was written with
+     *
+     * @return The version of the save file
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Move to the next chunk, skipping whatever is left of the current chunk
+     *
+     * @return The tag of the next chunk, or -1 if there are no chunks left
+     */
+    public int nextChunk() {
+        buffer.position(chunkEnd);
+        if (!buffer.hasRemaining())
+            return -1;
+        if (buffer.remaining() < 5)
+            throw new GdxRuntimeException("Save file ended early");
+        int tag = buffer.get() & 0xFF;
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining())
+            throw new GdxRuntimeException("Save file ended early");
+        chunkEnd = buffer.position() + length;
+        return tag;
+    }
+
+    /**
+     * Read a byte from the current chunk
+     *
+     * @return The byte, from 0 to 255
+     */
+    public int getByte() {
+        checkRemaining(1);
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Read a short from the current chunk
+     *
+     * @return The short, from 0 to 65535
+     */
+    public int getShort() {
+        checkRemaining(2);
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    /**
+     * Read an int from the current chunk
+     *
+     * @return The int
+     */
+    public int getInt() {
+        checkRemaining(4);
+        return buffer.getInt();
+    }
+
+    /**
+     * Read a long from the current chunk
+     *
+     * @return The long
+     */
+    public long getLong() {
+        checkRemaining(8);
+        return buffer.getLong();
+    }
+
+    /**
+     * Read a float from the current chunk
+     *
+     * @return The float
+     */
+    public float getFloat() {
+        checkRemaining(4);
+        return buffer.getFloat();
+    }
+
+    /**
+     * Read a double from the current chunk
+     *
+     * @return The double
+     */
+    public double getDouble() {
+        checkRemaining(8);
+        return buffer.getDouble();
+    }
+
+    /**
+     * Read a boolean from the current chunk
+     *
+     * @return The boolean
+     */
+    public boolean getBoolean() {
+        return getByte() != 0;
+    }
+
+    /**
+     * Read a String from the current chunk
+     *
+     * @return The String
+     */
+    public String getString() {
+        int length = getShort();
+        checkRemaining(length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read an enum constant from the current chunk
+     *
+     * @param values The constants of the enum
+     * @param <T>    The type of the enum
+     * @return The enum constant
+     */
+    public <T extends Enum<T>> T getEnum(T[] values) {
+        int ordinal = getShort();
+        if (ordinal >= values.length)
+            throw new GdxRuntimeException("Unknown " + values.getClass().getComponentType().getSimpleName() + " in save: " + ordinal);
+        return values[ordinal];
+    }
+
+    /**
+     * Make sure the current chunk has a number of bytes left to read
+     *
+     * @param bytes The number of bytes about to be read
+     */
+    private void checkRemaining(int bytes) {
+        if (buffer.position() + bytes > chunkEnd)
+            throw new GdxRuntimeException("Read past the end of a save chunk");
+    }
+}
@@ -0,0 +1,215 @@
+package com.aston.group.stationdefender.utils.save;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * SaveWriter builds a save file in memory and writes it to storage in one go.
+ * A save file is a header, a list of chunks and a CRC32 of everything before it. Each chunk is a tag,
+ * the length of its contents and its contents, so a reader can skip chunks it doesn't know and new
+ * chunks can be added without breaking older saves. The file is written next to the old save,
+ * flushed to the disk and then renamed over it, so a crash while saving leaves the old save in place.
+ */
+public class SaveWriter {
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+    private int chunkStart = -1;
+
+    /**
+     * Construct a new SaveWriter, starting the save file with its header
+     */
+    public SaveWriter() {
+        buffer.putInt(SaveReader.MAGIC);
+        buffer.put((byte) SaveReader.VERSION);
+    }
+
+    /**
+     * Start a new chunk, ending the current chunk if there is one
+     *
+     * @param tag The tag of the chunk, from 1 to 255
+     */
+    public void beginChunk(int tag) {
+        if (chunkStart != -1)
+            endChunk();
+        ensureCapacity(5);
+        buffer.put((byte) tag);
+        chunkStart = buffer.position();
+        buffer.putInt(0);
+    }
+
+    /**
+     * End the current chunk, filling in its length
+     */
+    public void endChunk() {
+        if (chunkStart == -1)
+            throw new GdxRuntimeException("No chunk has been started");
+        buffer.putInt(chunkStart, buffer.position() - chunkStart - 4);
+        chunkStart = -1;
+    }
+
+    /**
+     * Write a byte to the current chunk
+     *
+     * @param value The byte to write, from 0 to 255
+     */
+    public void putByte(int value) {
+        ensureCapacity(1);
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Write a short to the current chunk
+     *
+     * @param value The short to write, from 0 to 65535
+     */
+    public void putShort(int value) {
+        ensureCapacity(2);
+        buffer.putShort((short) value);
+    }
+
+    /**
+     * Write an int to the current chunk
+     *
+     * @param value The int to write
+     */
+    public void putInt(int value) {
+        ensureCapacity(4);
+        buffer.putInt(value);
+    }
+
+    /**
+     * Write a long to the current chunk
+     *
+     * @param value The long to write
+     */
+    public void putLong(long value) {
+        ensureCapacity(8);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Write a float to the current chunk
+     *
+     * @param value The float to write
+     */
+    public void putFloat(float value) {
+        ensureCapacity(4);
+        buffer.putFloat(value);
+    }
+
+    /**
+     * Write a double to the current chunk
+     *
+     * @param value The double to write
+     */
+    public void putDouble(double value) {
+        ensureCapacity(8);
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Write a boolean to the current chunk
+     *
+     * @param value The boolean to write
+     */
+    public void putBoolean(boolean value) {
+        putByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write a String to the current chunk, as its length followed by its UTF-8 bytes
+     *
+     * @param value The String to write, at most 65535 bytes long in UTF-8
+     */
+    public void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putShort(bytes.length);
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Write an enum constant to the current chunk, as its ordinal
+     *
+     * @param value The enum constant to write
+     */
+    public void putEnum(Enum<?> value) {
+        putShort(value.ordinal());
+    }
+
+    /**
+     * Make sure there is room in the buffer for a number of bytes, doubling its size if there isn't
+     *
+     * @param bytes The number of bytes about to be written
+     */
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    /**
+     * End the save file with its CRC32 and write it to storage, replacing any existing save.
+     * The save is written to a temporary file first and only renamed over the old save once it is on the disk.
+     *
+     * @param file The file to save to
+     */
+    public void save(FileHandle file) {
+        if (chunkStart != -1)
+            endChunk();
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        putInt((int) crc.getValue());
+        buffer.flip();
+        write(file, buffer);
+    }
+
+    /**
+     * Write the contents of a buffer to a file, replacing the file if it exists.
+     * The contents are written to a temporary file first and only renamed over the old file once they are on the disk.
+     *
+     * @param file   The file to write to
+     * @param buffer The contents to write, from its position to its limit
+     */
+    static void write(FileHandle file, ByteBuffer buffer) {
+        file.parent().mkdirs();
+        File target = file.file();
+        File temp = SaveReader.getTempFile(target);
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            FileChannel channel = out.getChannel();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write " + temp, e);
+        }
+        //Renaming over an existing file fails on some platforms, where the old save has to be deleted first
+        if (!temp.renameTo(target) && !(target.delete() && temp.renameTo(target)))
+            throw new GdxRuntimeException("Couldn't replace " + target);
+    }
+
+    /**
+     * Delete a save file, along with any save that was being written to replace it
+     *
+     * @param file The save file to delete
+     */
+    public static void delete(FileHandle file) {
+        File target = file.file();
+        if (target.exists() && !target.delete())
+            throw new GdxRuntimeException("Couldn't delete " + target);
+        File temp = SaveReader.getTempFile(target);
+        if (temp.exists() && !temp.delete())
+            throw new GdxRuntimeException("Couldn't delete " + temp);
+    }
+}
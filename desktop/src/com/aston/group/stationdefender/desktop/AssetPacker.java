@@ -0,0 +1,36 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.utils.TextureManager;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Build step that packs every sprite marked as packed in TextureManager into the sprite atlas.
+ * Must be run from the assets directory, see the packTextures Gradle task.
+ */
+public enum AssetPacker {
+    ;
+
+    public static void main(String... arg) throws IOException {
+        Settings settings = new Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+
+        TexturePacker packer = new TexturePacker(settings);
+        for (TextureManager textureManager : TextureManager.values()) {
+            if (textureManager.isPacked())
+                packer.addImage(ImageIO.read(new File(textureManager.getPath())), textureManager.getRegionName());
+        }
+
+        File atlasFile = new File(TextureManager.ATLAS_PATH);
+        String packFileName = atlasFile.getName().substring(0, atlasFile.getName().lastIndexOf('.'));
+        packer.pack(atlasFile.getParentFile(), packFileName);
+    }
+}
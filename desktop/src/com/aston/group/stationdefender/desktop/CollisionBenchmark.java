@@ -0,0 +1,190 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.actors.Actor;
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.gamesetting.helpers.LaneGrid;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Random;
+
+/**
+ * Measures the per frame cost of checking the projectiles of a single Lane against its Units, comparing
+ * the {@link LaneGrid} used by the Lane with checking every projectile against every Unit, as the Lane did before it.
+ * The LaneGrid cost includes rebuilding it, as the Lane does every step after its Units move.
+ * Each projectile count is measured over a number of rounds, reporting the fastest round of each approach.
+ * Usage: CollisionBenchmark [units] [frames] [rounds]
+ */
+public enum CollisionBenchmark {
+    ;
+
+    private static final int[] PROJECTILE_COUNTS = {10, 100, 1000};
+    private static long sink;
+
+    public static void main(String... arg) {
+        int units = arg.length > 0 ? Integer.parseInt(arg[0]) : 22;
+        int frames = arg.length > 1 ? Integer.parseInt(arg[1]) : 50000;
+        int rounds = arg.length > 2 ? Integer.parseInt(arg[2]) : 5;
+        int laneWidth = Constants.TILE_AMOUNT * Constants.TILE_WIDTH;
+        for (int count : PROJECTILE_COUNTS) {
+            Random random = new Random(1);
+            Array<Actor> actors = new Array<>();
+            for (int i = 0; i < units; i++) {
+                actors.add(new BenchmarkUnit(Constants.LANE_X + random.nextInt(laneWidth - Constants.TILE_WIDTH)));
+            }
+            int[] x = new int[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = Constants.LANE_X + random.nextInt(laneWidth);
+            }
+            LaneGrid grid = new LaneGrid();
+            double allPairs = Double.MAX_VALUE, gridded = Double.MAX_VALUE;
+            for (int round = 0; round < rounds; round++) {
+                allPairs = Math.min(allPairs, runAllPairs(actors, x, frames));
+                gridded = Math.min(gridded, runGrid(grid, actors, x, frames));
+            }
+            System.out.println(String.format("%5d projectiles x %d units: all pairs %.2f us/frame, grid %.2f us/frame",
+                    count, units, allPairs, gridded));
+        }
+        if (sink == 42)
+            System.out.println();
+    }
+
+    /**
+     * Measure checking every projectile against every Unit, without stopping at the first hit
+     *
+     * @param actors The Units of the Lane
+     * @param x      The X co-ordinates of the projectiles
+     * @param frames The number of frames to measure
+     * @return The time of each frame in microseconds
+     */
+    private static double runAllPairs(Array<Actor> actors, int[] x, int frames) {
+        long start = System.nanoTime();
+        for (int frame = 0; frame < frames; frame++) {
+            for (int i = 0; i < x.length; i++) {
+                for (int j = 0; j < actors.size; j++) {
+                    if (actors.get(j).isUnit() && isColliding(x[i], actors.get(j)))
+                        sink++;
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1e3 / frames;
+    }
+
+    /**
+     * Measure rebuilding the LaneGrid and checking each projectile against the Units in its columns
+     *
+     * @param grid   The LaneGrid to use
+     * @param actors The Units of the Lane
+     * @param x      The X co-ordinates of the projectiles
+     * @param frames The number of frames to measure
+     * @return The time of each frame in microseconds
+     */
+    private static double runGrid(LaneGrid grid, Array<Actor> actors, int[] x, int frames) {
+        long start = System.nanoTime();
+        for (int frame = 0; frame < frames; frame++) {
+            grid.rebuild(actors);
+            for (int i = 0; i < x.length; i++) {
+                boolean hit = false;
+                int lastColumn = LaneGrid.getColumn(x[i] + Constants.PROJECTILE_WIDTH - 1);
+                for (int column = LaneGrid.getColumn(x[i]); column <= lastColumn && !hit; column++) {
+                    Array<Actor> columnActors = grid.getActors(column);
+                    for (int j = 0; j < columnActors.size && !hit; j++) {
+                        hit = isColliding(x[i], columnActors.get(j));
+                    }
+                }
+                if (hit)
+                    sink++;
+            }
+        }
+        return (System.nanoTime() - start) / 1e3 / frames;
+    }
+
+    /**
+     * Check if a projectile overlaps a Unit
+     *
+     * @param x     The X co-ordinate of the projectile
+     * @param actor The Unit to check
+     * @return true if the projectile overlaps the Unit, false if not
+     */
+    private static boolean isColliding(int x, Actor actor) {
+        return actor.getX() + actor.getWidth() > x && actor.getX() < x + Constants.PROJECTILE_WIDTH
+                && actor.getY() + actor.getHeight() > 0 && actor.getY() < Constants.PROJECTILE_HEIGHT;
+    }
+
+    /**
+     * A Unit that only has a position and size, so that the benchmark doesn't depend on textures or definitions
+     */
+    private static class BenchmarkUnit implements Actor {
+        private int x;
+        private int y;
+
+        /**
+         * Construct a new BenchmarkUnit
+         *
+         * @param x The X co-ordinate of the Unit
+         */
+        BenchmarkUnit(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public void update(float delta) {
+        }
+
+        @Override
+        public void render(float alpha) {
+        }
+
+        @Override
+        public boolean getExists() {
+            return true;
+        }
+
+        @Override
+        public void takeDamage(double damage) {
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public int getHeight() {
+            return 50;
+        }
+
+        @Override
+        public int getWidth() {
+            return 50;
+        }
+
+        @Override
+        public int getX() {
+            return x;
+        }
+
+        @Override
+        public void setX(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public int getY() {
+            return y;
+        }
+
+        @Override
+        public void setY(int y) {
+            this.y = y;
+        }
+
+        @Override
+        public String getName() {
+            return "BenchmarkUnit";
+        }
+
+        @Override
+        public boolean isUnit() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.utils.FontManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter.FontInfo;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/**
+ * Optional build step that pre-bakes every font size used by FontManager into .fnt files,
+ * so that the game can skip FreeType at startup.
+ * Must be run from the assets directory, see the bakeFonts Gradle task.
+ */
+public enum FontBaker {
+    ;
+    private static final int PAGE_SIZE = 512;
+
+    public static void main(String... arg) {
+        GdxNativesLoader.load();
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(new FileHandle(FontManager.FONT_PATH));
+        for (int size : FontManager.SIZES) {
+            PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Format.RGBA8888, 2, false);
+            FreeTypeFontParameter params = new FreeTypeFontParameter();
+            params.size = size;
+            params.packer = packer;
+            FreeTypeBitmapFontData data = generator.generateData(params);
+
+            FileHandle fontFile = new FileHandle(FontManager.getBakedFontPath(size));
+            String[] pageRefs = BitmapFontWriter.writePixmaps(packer.getPages(), fontFile.parent(), fontFile.nameWithoutExtension());
+            BitmapFontWriter.writeFont(data, pageRefs, fontFile, new FontInfo(fontFile.nameWithoutExtension(), size), PAGE_SIZE, PAGE_SIZE);
+            packer.dispose();
+        }
+        generator.dispose();
+    }
+}
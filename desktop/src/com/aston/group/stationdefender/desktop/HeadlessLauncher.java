@@ -0,0 +1,86 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.actors.Weapon;
+import com.aston.group.stationdefender.callbacks.LevelCallback;
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.gamesetting.Level;
+import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.utils.SoundManager;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Runs Levels on the headless backend without a window or graphics context,
+ * stepping the simulation as fast as possible and reporting the results.
+ * Usage: HeadlessLauncher [runs] [levelNumber]
+ */
+public enum HeadlessLauncher {
+    ;
+
+    private static final int MAX_TICKS = Constants.TICKS_PER_SECOND * 60 * 30;
+
+    public static void main(String... arg) {
+        final int runs = arg.length > 0 ? Integer.parseInt(arg[0]) : 1000;
+        final int levelNumber = arg.length > 1 ? Integer.parseInt(arg[1]) : 1;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.renderInterval = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                SoundManager.setMuted(true);
+                simulate(runs, levelNumber);
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+
+    /**
+     * Simulate a number of runs of a Level, with a Weapon placed at the front of every Lane
+     *
+     * @param runs        The number of runs to simulate
+     * @param levelNumber The number of the Level to simulate
+     */
+    private static void simulate(int runs, int levelNumber) {
+        LevelCallback levelCallback = new LevelCallback() {
+            @Override
+            public void onWinLost(boolean won) {
+            }
+
+            @Override
+            public void addMoney(int money) {
+            }
+
+            @Override
+            public void addScore(int score) {
+            }
+
+            @Override
+            public void collectItem(Item item) {
+            }
+        };
+        int won = 0;
+        long ticks = 0;
+        long start = System.nanoTime();
+        for (int run = 0; run < runs; run++) {
+            Level level = new Level(levelCallback, levelNumber);
+            for (int lane = 0; lane < Constants.LANE_AMOUNT; lane++) {
+                int laneY = Constants.LANE_Y + lane * Constants.LANE_SPACING;
+                level.place(new Weapon(), Constants.LANE_X + Constants.TILE_WIDTH / 2, laneY + Constants.TILE_HEIGHT / 2);
+            }
+            int tick = 0;
+            while (!level.isWon() && !level.isLost() && tick < MAX_TICKS) {
+                level.update(Constants.STEP);
+                tick++;
+            }
+            if (level.isWon())
+                won++;
+            ticks += tick;
+            level.dispose();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Gdx.app.log("HeadlessLauncher", String.format("Level %d: %d runs, %d won, %d ticks in %.2fs (%.0f ticks/s, %.1f runs/s)",
+                levelNumber, runs, won, ticks, seconds, ticks / seconds, runs / seconds));
+    }
+}
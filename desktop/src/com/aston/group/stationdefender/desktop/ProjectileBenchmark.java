@@ -0,0 +1,277 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.utils.ProjectileFactory;
+import com.aston.group.stationdefender.utils.SoundManager;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Compares the parallel array layout of the {@link ProjectileFactory} with the pooled object per Projectile
+ * layout it replaced. Each step moves every Projectile, checks it against a row of Units, removes the dead
+ * Projectiles and shoots new ones until there are as many live Projectiles as at the start.
+ * Each count is measured over a number of rounds, alternating which layout goes first so that neither
+ * gains from the other warming up the JIT, and the fastest round of each layout is reported.
+ * Usage: ProjectileBenchmark [steps] [rounds]
+ */
+public enum ProjectileBenchmark {
+    ;
+
+    private static final int[] PROJECTILE_COUNTS = {100, 1000, 10000};
+    private static final int[][] UNITS = {{300, 120, 60, 60}, {500, 120, 60, 60}, {700, 120, 60, 60}, {900, 120, 60, 60}, {1100, 120, 60, 60}};
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private static long sink;
+
+    public static void main(String... arg) {
+        int steps = arg.length > 0 ? Integer.parseInt(arg[0]) : 2000;
+        int rounds = arg.length > 1 ? Integer.parseInt(arg[1]) : 6;
+        SoundManager.setMuted(true);
+        for (int count : PROJECTILE_COUNTS) {
+            Result objects = null, arrays = null;
+            for (int round = 0; round < rounds; round++) {
+                if (round % 2 == 0) {
+                    objects = Result.fastest(objects, runObjects(count, steps));
+                    arrays = Result.fastest(arrays, runArrays(count, steps));
+                } else {
+                    arrays = Result.fastest(arrays, runArrays(count, steps));
+                    objects = Result.fastest(objects, runObjects(count, steps));
+                }
+            }
+            System.out.println(String.format("%6d projectiles: objects %.1f us/step (%s), arrays %.1f us/step (%s)",
+                    count, objects.micros, objects.getAllocation(), arrays.micros, arrays.getAllocation()));
+        }
+        if (sink == 42)
+            System.out.println();
+    }
+
+    /**
+     * Measure the pooled object per Projectile layout
+     *
+     * @param count The number of live Projectiles
+     * @param steps The number of steps to measure
+     * @return The time and allocation of each step
+     */
+    private static Result runObjects(int count, int steps) {
+        Random random = new Random(1);
+        ObjectProjectileFactory factory = new ObjectProjectileFactory();
+        for (int i = 0; i < count; i++) {
+            factory.shootBullet(random.nextInt(1200), 130, 8 + random.nextInt(4), 10);
+        }
+        Result result = new Result();
+        for (int step = 0; step < steps; step++) {
+            factory.update(Constants.STEP);
+            Array<ObjectProjectile> projectiles = factory.projectiles;
+            for (int i = 0; i < projectiles.size; i++) {
+                ObjectProjectile projectile = projectiles.get(i);
+                for (int[] unit : UNITS) {
+                    if (projectile.alive && projectile.isColliding(unit[0], unit[1], unit[2], unit[3])) {
+                        projectile.alive = false;
+                        sink += (long) projectile.damage;
+                    }
+                }
+            }
+            while (projectiles.size < count) {
+                factory.shootBullet(random.nextInt(200), 130, 8 + random.nextInt(4), 10);
+            }
+        }
+        return result.end(steps);
+    }
+
+    /**
+     * Measure the parallel array layout of the ProjectileFactory
+     *
+     * @param count The number of live Projectiles
+     * @param steps The number of steps to measure
+     * @return The time and allocation of each step
+     */
+    private static Result runArrays(int count, int steps) {
+        Random random = new Random(1);
+        ProjectileFactory factory = new ProjectileFactory();
+        for (int i = 0; i < count; i++) {
+            factory.shootBullet(random.nextInt(1200), 130, 8 + random.nextInt(4), 10);
+        }
+        Result result = new Result();
+        for (int step = 0; step < steps; step++) {
+            factory.update(Constants.STEP);
+            for (int i = 0; i < factory.getSize(); i++) {
+                for (int[] unit : UNITS) {
+                    if (factory.isAlive(i) && factory.isColliding(i, unit[0], unit[1], unit[2], unit[3])) {
+                        factory.setDead(i);
+                        sink += (long) factory.getDamage(i);
+                    }
+                }
+            }
+            while (factory.getSize() < count) {
+                factory.shootBullet(random.nextInt(200), 130, 8 + random.nextInt(4), 10);
+            }
+        }
+        return result.end(steps);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread, if the JVM can measure it
+     *
+     * @return The number of bytes allocated, or -1 if it can't be measured
+     */
+    private static long getAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return -1;
+    }
+
+    /**
+     * The time and allocation of each step of a measurement
+     */
+    private static class Result {
+        private final long startTime = System.nanoTime();
+        private final long startBytes = getAllocatedBytes();
+        private double micros;
+        private long bytes;
+
+        /**
+         * End the measurement
+         *
+         * @param steps The number of steps measured
+         * @return This Result
+         */
+        private Result end(int steps) {
+            micros = (System.nanoTime() - startTime) / 1e3 / steps;
+            bytes = startBytes == -1 ? -1 : (getAllocatedBytes() - startBytes) / steps;
+            return this;
+        }
+
+        /**
+         * Returns the faster of two Results
+         *
+         * @param best   The fastest Result so far, null if there is none
+         * @param result The new Result
+         * @return The faster Result
+         */
+        private static Result fastest(Result best, Result result) {
+            return best == null || result.micros < best.micros ? result : best;
+        }
+
+        /**
+         * Returns the allocation of each step as text
+         *
+         * @return The bytes allocated by each step, or "n/a" if it couldn't be measured
+         */
+        private String getAllocation() {
+            return bytes == -1 ? "n/a" : bytes + " B/step";
+        }
+    }
+
+    /**
+     * A Projectile stored as its own object, as it was before the ProjectileFactory used parallel arrays
+     */
+    private static class ObjectProjectile implements Pool.Poolable {
+        private int x;
+        private int prevX;
+        private int y;
+        private double speed;
+        private double damage;
+        private boolean alive;
+
+        /**
+         * Initiate the Projectile moving
+         *
+         * @param x      The initial X co-ordinate of the Projectile
+         * @param y      The initial Y co-ordinate of the Projectile
+         * @param speed  The speed of the Projectile
+         * @param damage The damage of the Projectile
+         */
+        private void init(int x, int y, double speed, double damage) {
+            this.x = x;
+            prevX = x;
+            this.y = y;
+            this.speed = speed;
+            this.damage = damage;
+            alive = true;
+        }
+
+        /**
+         * Move the Projectile by a single simulation step
+         *
+         * @param delta The length of the simulation step in seconds
+         */
+        private void update(float delta) {
+            prevX = x;
+            x += Math.round(speed * delta * 60);
+            if (x > Constants.SCREEN_WIDTH + 1 || x < -10)
+                alive = false;
+        }
+
+        /**
+         * Check if an object overlaps the Projectile
+         *
+         * @param x      The X co-ordinate of the object to check
+         * @param y      The Y co-ordinate of the object to check
+         * @param width  The width of the object to check
+         * @param height The height of the object to check
+         * @return true if the object overlaps the Projectile, false if not
+         */
+        private boolean isColliding(int x, int y, int width, int height) {
+            return x + width > this.x && x < this.x + Constants.PROJECTILE_WIDTH && y + height > this.y && y < this.y + Constants.PROJECTILE_HEIGHT;
+        }
+
+        @Override
+        public void reset() {
+            x = 0;
+            prevX = 0;
+            y = 0;
+            alive = false;
+        }
+    }
+
+    /**
+     * The pooled ProjectileFactory as it was before it used parallel arrays
+     */
+    private static class ObjectProjectileFactory {
+        private final Array<ObjectProjectile> projectiles = new Array<>();
+        private final Pool<ObjectProjectile> projectilePool = new Pool<ObjectProjectile>() {
+            @Override
+            protected ObjectProjectile newObject() {
+                return new ObjectProjectile();
+            }
+        };
+
+        /**
+         * Shoots a bullet
+         *
+         * @param x      The initial X co-ordinate of the bullet
+         * @param y      The initial Y co-ordinate of the bullet
+         * @param speed  The speed of the bullet
+         * @param damage The damage of the bullet
+         */
+        private void shootBullet(int x, int y, double speed, double damage) {
+            ObjectProjectile projectile = projectilePool.obtain();
+            projectile.init(x, y, speed, damage);
+            projectiles.add(projectile);
+            SoundManager.playSound(SoundManager.GUN_SHOT);
+        }
+
+        /**
+         * Move the Projectiles by a single simulation step, removing any that are no longer alive
+         *
+         * @param delta The length of the simulation step in seconds
+         */
+        private void update(float delta) {
+            for (ObjectProjectile projectile : projectiles) {
+                projectile.update(delta);
+            }
+            Iterator<ObjectProjectile> iterator = projectiles.iterator();
+            while (iterator.hasNext()) {
+                ObjectProjectile projectile = iterator.next();
+                if (!projectile.alive) {
+                    iterator.remove();
+                    projectilePool.free(projectile);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.actors.Actor;
+import com.aston.group.stationdefender.callbacks.LevelCallback;
+import com.aston.group.stationdefender.callbacks.PlayerCallback;
+import com.aston.group.stationdefender.config.Definitions;
+import com.aston.group.stationdefender.gamesetting.Level;
+import com.aston.group.stationdefender.gamesetting.Player;
+import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.utils.SoundManager;
+import com.aston.group.stationdefender.utils.replay.Replay;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Plays a recorded replay back as fast as possible without rendering, to reproduce bugs and
+ * performance problems, reporting the simulation step where the replay desyncs if it does.
+ * Usage: ReplayLauncher [replay file] [times]
+ */
+public enum ReplayLauncher {
+    ;
+
+    public static void main(String... arg) {
+        if (arg.length == 0) {
+            System.out.println("Usage: ReplayLauncher [replay file] [times]");
+            return;
+        }
+        SoundManager.setMuted(true);
+        Definitions.load(new FileHandle(Definitions.PATH));
+        Replay replay = new Replay(new FileHandle(arg[0]).readBytes());
+        int times = arg.length > 1 ? Integer.parseInt(arg[1]) : 1;
+
+        for (int i = 0; i < times; i++) {
+            Playback playback = new Playback(replay);
+            long start = System.nanoTime();
+            int desync = replay.play(playback.level, playback.player);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long ticks = playback.level.getTick();
+            String result = playback.level.isWon() ? "won" : playback.level.isLost() ? "lost" : "unfinished";
+            System.out.println(String.format("Level %d (seed %d): %d ticks in %.3fs (%.0f ticks/s), %s, %s",
+                    replay.getLevelNumber(), replay.getSeed(), ticks, seconds, ticks / seconds, result,
+                    desync == -1 ? "no desync" : "desync at tick " + desync));
+            playback.level.dispose();
+            playback.player.dispose();
+        }
+    }
+
+    /**
+     * Connects a Level and a Player created from a Replay, in the same way as the GameScreen
+     */
+    private static class Playback implements LevelCallback, PlayerCallback {
+        private final Level level;
+        private final Player player;
+
+        /**
+         * Construct a new Playback with the seed and starting state of a Replay
+         *
+         * @param replay The Replay to play back
+         */
+        Playback(Replay replay) {
+            player = new Player(this, replay.getScore(), replay.getMoney(), replay.getItems());
+            level = new Level(this, replay.getLevelNumber(), replay.getSeed());
+        }
+
+        @Override
+        public void onWinLost(boolean won) {
+        }
+
+        @Override
+        public void addMoney(int money) {
+            player.addMoney(money);
+        }
+
+        @Override
+        public void addScore(int score) {
+            player.addScore(score);
+        }
+
+        @Override
+        public void collectItem(Item item) {
+            player.collectItem(item);
+        }
+
+        @Override
+        public boolean placeActor(Actor actor, int x, int y) {
+            return level.place(actor, x, y);
+        }
+
+        @Override
+        public void onPause() {
+        }
+
+        @Override
+        public void addHealth(int health) {
+            level.towerAddHealth(health);
+        }
+
+        @Override
+        public boolean collectItemAt(int x, int y) {
+            return level.collectItemAt(x, y);
+        }
+
+        @Override
+        public void onTogglePause() {
+        }
+
+        @Override
+        public void onCycleTimeScale() {
+        }
+
+        @Override
+        public void onStep() {
+        }
+    }
+}
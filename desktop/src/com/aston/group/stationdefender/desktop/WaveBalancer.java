@@ -0,0 +1,330 @@
+package com.aston.group.stationdefender.desktop;
+
+import com.aston.group.stationdefender.actors.Actor;
+import com.aston.group.stationdefender.callbacks.LevelCallback;
+import com.aston.group.stationdefender.config.Constants;
+import com.aston.group.stationdefender.config.Definitions;
+import com.aston.group.stationdefender.gamesetting.Level;
+import com.aston.group.stationdefender.gamesetting.items.Item;
+import com.aston.group.stationdefender.gamesetting.items.helpers.ItemFactory;
+import com.aston.group.stationdefender.utils.SoundManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Balances the waves of the game by simulating many seeded runs of each Level in parallel
+ * with a scripted Player, and reporting the win rate, Tower health left, money over time
+ * and time to clear of each Level number.
+ * Every run only touches its own Level, so runs are split across a fork-join pool without any locking.
+ * Usage: WaveBalancer [runs per level] [first level] [last level] [seed] [threads]
+ */
+public enum WaveBalancer {
+    ;
+
+    private static final int MAX_TICKS = Constants.TICKS_PER_SECOND * 60 * 30;
+    private static final int SAMPLE_TICKS = Constants.TICKS_PER_SECOND * 10;
+    private static final int PLACE_TICKS = Constants.TICKS_PER_SECOND;
+    private static final int RUNS_PER_TASK = 4;
+
+    public static void main(String... arg) {
+        int runs = arg.length > 0 ? Integer.parseInt(arg[0]) : 1000;
+        int firstLevel = arg.length > 1 ? Integer.parseInt(arg[1]) : 1;
+        int lastLevel = arg.length > 2 ? Integer.parseInt(arg[2]) : 10;
+        long seed = arg.length > 3 ? Long.parseLong(arg[3]) : 0;
+        int threads = arg.length > 4 ? Integer.parseInt(arg[4]) : Runtime.getRuntime().availableProcessors();
+        SoundManager.setMuted(true);
+        Definitions.load(new FileHandle(Definitions.PATH));
+
+        int levels = lastLevel - firstLevel + 1;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        Stats[] stats = pool.invoke(new RunTask(firstLevel, levels, runs, seed, 0, levels * runs));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        long ticks = 0;
+        for (int i = 0; i < levels; i++) {
+            print(firstLevel + i, stats[i]);
+            ticks += stats[i].ticks;
+        }
+        System.out.println(String.format("%d runs on %d threads in %.2fs (%.1f runs/s, %.0f ticks/s)",
+                levels * runs, threads, seconds, levels * runs / seconds, ticks / seconds));
+    }
+
+    /**
+     * Print the results of every run of a Level
+     *
+     * @param levelNumber The number of the Level
+     * @param stats       The results of the runs of the Level
+     */
+    private static void print(int levelNumber, Stats stats) {
+        stats.clearTicks.sort();
+        int won = stats.clearTicks.size;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Level %d: win rate %.1f%% (%d/%d, %d timed out)", levelNumber,
+                100.0 * won / stats.runs, won, stats.runs, stats.timedOut));
+        if (won > 0) {
+            report.append(String.format(", tower health left %.0f, time to clear %.1fs (median %.1fs, 90th %.1fs)",
+                    (double) stats.towerHealth / won, (double) stats.wonTicks / won / Constants.TICKS_PER_SECOND,
+                    getPercentile(stats.clearTicks, 0.5), getPercentile(stats.clearTicks, 0.9)));
+        }
+        report.append("\n  money:");
+        //Each sample is the average money of the runs still being played at that time
+        for (int i = 0; i < stats.moneyRuns.length && stats.moneyRuns[i] > 0; i++) {
+            report.append(String.format(" %ds=%.0f", i * SAMPLE_TICKS / Constants.TICKS_PER_SECOND,
+                    (double) stats.money[i] / stats.moneyRuns[i]));
+        }
+        System.out.println(report);
+    }
+
+    /**
+     * Returns a percentile of a sorted list of ticks, in seconds
+     *
+     * @param ticks      The sorted ticks
+     * @param percentile The percentile to return, from 0 to 1
+     * @return The percentile of the ticks in seconds
+     */
+    private static double getPercentile(IntArray ticks, double percentile) {
+        int index = Math.min((int) (ticks.size * percentile), ticks.size - 1);
+        return (double) ticks.get(index) / Constants.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Returns the seed of a single run, mixed so that neighbouring runs don't get similar seeds
+     *
+     * @param seed The seed of the sweep
+     * @param run  The index of the run within the sweep
+     * @return The seed of the run
+     */
+    private static long getRunSeed(long seed, int run) {
+        long z = seed + (run + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Simulate a single run of a Level with the scripted Player
+     *
+     * @param levelNumber The number of the Level
+     * @param seed        The seed of the run
+     * @param stats       The results to add the run to
+     */
+    private static void simulate(int levelNumber, long seed, Stats stats) {
+        ScriptedPlayer player = new ScriptedPlayer();
+        Level level = new Level(player, levelNumber, seed);
+        player.level = level;
+        int tick = 0;
+        while (!level.isWon() && !level.isLost() && tick < MAX_TICKS) {
+            if (tick % SAMPLE_TICKS == 0)
+                stats.addMoney(tick / SAMPLE_TICKS, player.money);
+            if (tick % PLACE_TICKS == 0)
+                player.act();
+            level.update(Constants.STEP);
+            level.collectItems();
+            tick++;
+        }
+        stats.runs++;
+        stats.ticks += tick;
+        if (level.isWon()) {
+            stats.clearTicks.add(tick);
+            stats.wonTicks += tick;
+            stats.towerHealth += level.getTowerHealth();
+        } else if (!level.isLost()) {
+            stats.timedOut++;
+        }
+        level.dispose();
+    }
+
+    /**
+     * The results of the runs of a single Level
+     */
+    private static class Stats {
+        private final IntArray clearTicks = new IntArray();
+        private final long[] money = new long[MAX_TICKS / SAMPLE_TICKS + 1];
+        private final int[] moneyRuns = new int[MAX_TICKS / SAMPLE_TICKS + 1];
+        private int runs;
+        private int timedOut;
+        private long ticks;
+        private long wonTicks;
+        private long towerHealth;
+
+        /**
+         * Add the money of a run at a sample of the money curve
+         *
+         * @param sample The index of the sample
+         * @param amount The money the Player has
+         */
+        private void addMoney(int sample, int amount) {
+            money[sample] += amount;
+            moneyRuns[sample]++;
+        }
+
+        /**
+         * Add the results of another set of runs of the same Level
+         *
+         * @param other The results to add
+         */
+        private void merge(Stats other) {
+            clearTicks.addAll(other.clearTicks);
+            for (int i = 0; i < moneyRuns.length; i++) {
+                money[i] += other.money[i];
+                moneyRuns[i] += other.moneyRuns[i];
+            }
+            runs += other.runs;
+            timedOut += other.timedOut;
+            ticks += other.ticks;
+            wonTicks += other.wonTicks;
+            towerHealth += other.towerHealth;
+        }
+    }
+
+    /**
+     * Simulates a range of the runs of the sweep, splitting the range in half until it is small enough to run directly
+     */
+    private static class RunTask extends RecursiveTask<Stats[]> {
+        private static final long serialVersionUID = 1L;
+        private final int firstLevel, levels, runs;
+        private final long seed;
+        private final int from, to;
+
+        /**
+         * Construct a new RunTask
+         *
+         * @param firstLevel The number of the first Level of the sweep
+         * @param levels     The number of Levels in the sweep
+         * @param runs       The number of runs of each Level
+         * @param seed       The seed of the sweep
+         * @param from       The index of the first run to simulate
+         * @param to         The index after the last run to simulate
+         */
+        RunTask(int firstLevel, int levels, int runs, long seed, int from, int to) {
+            this.firstLevel = firstLevel;
+            this.levels = levels;
+            this.runs = runs;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats[] compute() {
+            if (to - from > RUNS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                RunTask left = new RunTask(firstLevel, levels, runs, seed, from, middle);
+                left.fork();
+                Stats[] stats = new RunTask(firstLevel, levels, runs, seed, middle, to).compute();
+                Stats[] leftStats = left.join();
+                for (int i = 0; i < levels; i++) {
+                    stats[i].merge(leftStats[i]);
+                }
+                return stats;
+            }
+            Stats[] stats = new Stats[levels];
+            for (int i = 0; i < levels; i++) {
+                stats[i] = new Stats();
+            }
+            //Runs are ordered by Level, and the run's seed only depends on its index, so results don't depend on the split
+            for (int run = from; run < to; run++) {
+                int level = run / runs;
+                simulate(firstLevel + level, getRunSeed(seed, run), stats[level]);
+            }
+            return stats;
+        }
+    }
+
+    /**
+     * A Player that collects every dropped Item and, once a second, spends its money on the
+     * cheapest Weapon it can afford, placed in the Lane with the fewest Weapons at the Tile closest to the Tower.
+     */
+    private static class ScriptedPlayer implements LevelCallback {
+        private final int[] weapons = new int[Constants.LANE_AMOUNT];
+        private final Array<Item> items = new Array<>();
+        private final Item weapon = ItemFactory.getItem(ItemFactory.WEAPON);
+        private Level level;
+        private int money = Constants.START_MONEY;
+
+        /**
+         * Place a Weapon if the Player can afford one, using collected Weapons before the default Weapon
+         */
+        private void act() {
+            Item item = weapon;
+            for (Item collected : items) {
+                if (collected.getCost() <= money) {
+                    item = collected;
+                    break;
+                }
+            }
+            if (item.getCost() > money)
+                return;
+            Actor actor = item.getPlaceableActor();
+            if (place(actor)) {
+                money -= item.getCost();
+                if (item != weapon)
+                    items.removeValue(item, true);
+            }
+        }
+
+        /**
+         * Place an Actor on the first free Tile of the Lane with the fewest Weapons,
+         * trying the other Lanes if that Lane is full
+         *
+         * @param actor The Actor to place
+         * @return true if the Actor was placed, false if every Lane is full
+         */
+        private boolean place(Actor actor) {
+            boolean[] tried = new boolean[Constants.LANE_AMOUNT];
+            for (int attempt = 0; attempt < Constants.LANE_AMOUNT; attempt++) {
+                int lane = -1;
+                for (int i = 0; i < Constants.LANE_AMOUNT; i++) {
+                    if (!tried[i] && (lane == -1 || weapons[i] < weapons[lane]))
+                        lane = i;
+                }
+                tried[lane] = true;
+                int y = Constants.LANE_Y + lane * Constants.LANE_SPACING + Constants.TILE_HEIGHT / 2;
+                //The last Tile is left free as that is where Aliens arrive
+                for (int tile = 0; tile < Constants.TILE_AMOUNT - 1; tile++) {
+                    if (level.place(actor, Constants.LANE_X + tile * Constants.TILE_WIDTH + Constants.TILE_WIDTH / 2, y)) {
+                        weapons[lane]++;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void onWinLost(boolean won) {
+        }
+
+        @Override
+        public void addMoney(int money) {
+            this.money += money;
+        }
+
+        @Override
+        public void addScore(int score) {
+        }
+
+        @Override
+        public void collectItem(Item item) {
+            switch (item.getSku()) {
+                case CREDIT:
+                    money += item.getValue();
+                    break;
+                case HEALTH:
+                    level.towerAddHealth(item.getHealth());
+                    break;
+                case WEAPON:
+                case CLOSE_COMBAT_WEAPON:
+                case RAPID_FIRE_WEAPON:
+                    items.add(item);
+                    break;
+            }
+        }
+    }
+}